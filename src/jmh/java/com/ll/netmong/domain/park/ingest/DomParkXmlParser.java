@@ -0,0 +1,71 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 기준선. ParkXmlParser 이전 ParkServiceImpl 의 callApi / parseParksData / createParkFromElement 를 그대로 옮겼다.
+// 응답을 줄 단위로 문자열에 모은 뒤 DOM 을 만들고, 필드마다 getElementsByTagName 으로 찾는다.
+class DomParkXmlParser {
+
+    List<Park> parse(InputStream in) throws Exception {
+        BufferedReader br = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+
+        String returnLine;
+        StringBuilder resultBuilder = new StringBuilder();
+
+        while ((returnLine = br.readLine()) != null) {
+            resultBuilder.append(returnLine).append("\n\r");
+        }
+        return parseParksData(resultBuilder.toString());
+    }
+
+    private List<Park> parseParksData(String data) throws Exception {
+        List<Park> parks = new ArrayList<>();
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document document = builder.parse(new InputSource(new StringReader(data)));
+
+        NodeList nodeList = document.getElementsByTagName("item");
+
+        for (int i = 0; i < nodeList.getLength(); i++) {
+            Element element = (Element) nodeList.item(i);
+            parks.add(createParkFromElement(element));
+        }
+        return parks;
+    }
+
+    private Park createParkFromElement(Element element) {
+        String parkNm = element.getElementsByTagName("parkNm").item(0).getTextContent();
+        String lnmadr = element.getElementsByTagName("lnmadr").item(0).getTextContent();
+        String latitudeStr = element.getElementsByTagName("latitude").item(0).getTextContent();
+        double latitude = latitudeStr.isEmpty() ? 0 : Double.parseDouble(latitudeStr);
+        String longitudeStr = element.getElementsByTagName("longitude").item(0).getTextContent();
+        double longitude = longitudeStr.isEmpty() ? 0 : Double.parseDouble(longitudeStr);
+        String phoneNumber = element.getElementsByTagName("phoneNumber").item(0).getTextContent();
+        String[] lnmadrSplit = lnmadr.split("\\s");
+        String state = lnmadrSplit.length > 0 ? lnmadrSplit[0] : "";
+        String city = lnmadrSplit.length > 1 ? lnmadrSplit[1] : "";
+
+        return Park.builder()
+                .parkNm(parkNm)
+                .lnmadr(lnmadr)
+                .latitude(latitude)
+                .longitude(longitude)
+                .phoneNumber(phoneNumber)
+                .state(state)
+                .city(city)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ParkXmlParser 와 예전 ParkServiceImpl.parseParksData 의 DOM 방식(DomParkXmlParser)을 같은 응답으로 비교한다.
+// ./gradlew jmh  (결과는 build/results/jmh/results.txt, gc 프로파일러로 할당량도 함께 본다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParkXmlParserBenchmark {
+
+    // 100 은 실제 API 한 페이지 크기다.
+    @Param({"100", "1000"})
+    private int rows;
+
+    private byte[] response;
+    private ParkXmlParser parser;
+    private DomParkXmlParser domParser;
+
+    @Setup
+    public void setUp() {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<response>\n")
+                .append("<header><resultCode>00</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header>\n<body><items>\n");
+        for (int i = 1; i <= rows; i++) {
+            xml.append("<item>\n")
+                    .append("<manageNo>11680-").append(i).append("</manageNo>\n")
+                    .append("<parkNm>역삼").append(i).append("공원</parkNm>\n")
+                    .append("<parkSe>근린공원</parkSe>\n")
+                    .append("<rdnmadr>서울특별시 강남구 테헤란로 ").append(i).append("</rdnmadr>\n")
+                    .append("<lnmadr>서울특별시 강남구 역삼동 ").append(i).append("</lnmadr>\n")
+                    .append("<latitude>37.49").append(i).append("</latitude>\n")
+                    .append("<longitude>127.03").append(i).append("</longitude>\n")
+                    .append("<parkAr>12345.6</parkAr>\n")
+                    .append("<mvmFclty>배드민턴장+게이트볼장</mvmFclty>\n")
+                    .append("<amsmtFclty>조합놀이대</amsmtFclty>\n")
+                    .append("<cnvnncFclty>화장실+음수대</cnvnncFclty>\n")
+                    .append("<institutionNm>서울특별시 강남구청</institutionNm>\n")
+                    .append("<phoneNumber>02-3423-5114</phoneNumber>\n")
+                    .append("<referenceDate>2023-08-01</referenceDate>\n")
+                    .append("</item>\n");
+        }
+        xml.append("</items><numOfRows>").append(rows).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(rows).append("</totalCount></body>\n</response>\n");
+
+        response = xml.toString().getBytes(StandardCharsets.UTF_8);
+        parser = new ParkXmlParser();
+        domParser = new DomParkXmlParser();
+    }
+
+    @Benchmark
+    public int stax(Blackhole blackhole) throws Exception {
+        return parser.parse(new ByteArrayInputStream(response), item -> blackhole.consume(item.build()));
+    }
+
+    // 예전 경로: DomParkXmlParser 참고
+    @Benchmark
+    public int dom(Blackhole blackhole) throws Exception {
+        List<Park> parks = domParser.parse(new ByteArrayInputStream(response));
+        parks.forEach(blackhole::consume);
+        return parks.size();
+    }
+}
@@ -1,28 +1,41 @@
 package com.ll.netmong.base.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ll.netmong.base.jwt.JwtAccessDeniedHandler;
 import com.ll.netmong.base.jwt.JwtAuthenticationEntryPoint;
 import com.ll.netmong.base.jwt.JwtSecurityConfig;
 import com.ll.netmong.base.jwt.TokenProvider;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenRevocations;
+import com.ll.netmong.base.ratelimit.RateLimiter;
 import com.ll.netmong.base.security.CustomAuthenticationSuccessHandler;
 import com.ll.netmong.base.security.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class WebSecurityConfig {
     private final TokenProvider tokenProvider;
+    private final RefreshTokenRevocations revocations;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
     private final CorsFilter corsFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
@@ -43,7 +56,7 @@ public class WebSecurityConfig {
                 )
 
                 .authorizeHttpRequests(authorizeHttpRequests -> authorizeHttpRequests
-                        .requestMatchers("/api/v1/members/login",
+                        .requestMatchers("/api/v1/members/login", "/api/v1/members/refresh",
                                 "/api/v1/members/join", "/images/**", "/api/v1/products/**",
                                 "/api/v1/members/dup-username",
                                 "/api/v1/members/dup-email"
@@ -74,13 +87,30 @@ public class WebSecurityConfig {
                 )
 
 
-                .apply(new JwtSecurityConfig(tokenProvider));
+                .apply(new JwtSecurityConfig(tokenProvider, revocations, rateLimiter, objectMapper));
 
         return http.build();
     }
 
+    // 새 비밀번호는 custom.password.encoding-id 방식으로 저장하고, 접두사가 없는 기존 bcrypt 해시도 그대로 검증한다.
+    // 저장된 해시가 현재 설정과 다르면 upgradeEncoding() 이 true 를 반환해 로그인 시 다시 해시된다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${custom.password.encoding-id:bcrypt}") String encodingId,
+                                           @Value("${custom.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        // argon2 는 BouncyCastle 이 있어야 동작한다.
+        if (ClassUtils.isPresent("org.bouncycastle.crypto.params.Argon2Parameters", getClass().getClassLoader())) {
+            encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        }
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 인코딩 방식입니다: " + encodingId);
+        }
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 }
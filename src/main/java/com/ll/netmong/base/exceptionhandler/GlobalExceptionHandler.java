@@ -1,9 +1,14 @@
 package com.ll.netmong.base.exceptionhandler;
 
+import com.ll.netmong.base.jwt.refresh.InvalidRefreshTokenException;
+import com.ll.netmong.base.security.password.PasswordHashingBusyException;
+import com.ll.netmong.common.InvalidRequestParameterException;
 import com.ll.netmong.common.ProductException;
 import com.ll.netmong.common.RsData;
+import com.ll.netmong.domain.follow.exception.AlreadyFollowedException;
 import com.ll.netmong.domain.likedPost.exception.DuplicateLikeException;
 import com.ll.netmong.domain.member.exception.NotMatchPasswordException;
+import com.ll.netmong.domain.park.ingest.ParkIngestionException;
 import com.ll.netmong.domain.product.dto.response.ErrorResponse;
 import com.ll.netmong.domain.reports.exception.DuplicateReportException;
 import com.ll.netmong.domain.reports.exception.InvalidReportException;
@@ -69,6 +74,18 @@ public class GlobalExceptionHandler {
 //        return RsData.failOf("Unexpected error");
 //    }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public RsData handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        return RsData.failOf(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public RsData handleInvalidRefreshToken(InvalidRefreshTokenException e) {
+        return RsData.failOf(e.getMessage());
+    }
+
     @ExceptionHandler(DuplicateLikeException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public RsData handleDuplicateLike(DuplicateLikeException e) {
@@ -87,9 +104,27 @@ public class GlobalExceptionHandler {
         return RsData.failOf(e.getMessage());
     }
 
+    @ExceptionHandler(AlreadyFollowedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public RsData handleAlreadyFollowed(AlreadyFollowedException e) {
+        return RsData.failOf(e.getMessage());
+    }
+
     @ExceptionHandler(OptimisticLockingFailureException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public RsData handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
         return RsData.of("F-2", "다른 사용자가 동시에 좋아요를 눌렀습니다. 다시 시도해주세요.");
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(ParkIngestionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public RsData handleParkIngestion(ParkIngestionException e) {
+        return RsData.failOf(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public RsData handleInvalidRequestParameter(InvalidRequestParameterException e) {
+        return RsData.failOf(e.getMessage());
+    }
+}
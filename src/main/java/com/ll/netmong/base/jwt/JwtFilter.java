@@ -1,5 +1,6 @@
 package com.ll.netmong.base.jwt;
 
+import com.ll.netmong.base.jwt.refresh.RefreshTokenRevocations;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -13,19 +14,20 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 
 public class JwtFilter extends GenericFilterBean {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
+    public static final String TOKEN_EXCEPTION_ATTRIBUTE = "tokenexception";
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
 
     private final TokenProvider tokenProvider;
+    private final RefreshTokenRevocations revocations;
 
-    public JwtFilter(TokenProvider tokenProvider) {
+    public JwtFilter(TokenProvider tokenProvider, RefreshTokenRevocations revocations) {
         this.tokenProvider = tokenProvider;
+        this.revocations = revocations;
     }
 
     //jwt토큰에 대한 처리가 이뤄진다. ==JWTFilter
@@ -41,15 +43,19 @@ public class JwtFilter extends GenericFilterBean {
 
 
         if (StringUtils.hasText(jwt)) {
-            Map<String, String> resultMap = tokenProvider.validateToken(jwt);
-            if (resultMap.get("result").equals("SUCCESS")) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
+            TokenVerification verification = tokenProvider.verify(jwt);
+            // 로그아웃·재사용 감지로 폐기된 family 의 토큰은 만료 전이라도 거절한다. (블룸 필터라 대부분 DB 를 보지 않는다)
+            if (verification.isValid() && revocations.isRevoked(verification.getFamilyId())) {
+                verification = TokenVerification.failed(TokenVerification.Status.REVOKED);
+            }
+            if (verification.isValid()) {
+                Authentication authentication = verification.getAuthentication();
                 //유효한 토큰을 SecurityContextHolder 에 둔다
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 logger.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}",
                         authentication.getName(), requestURI);
             } else {
-                servletRequest.setAttribute("tokenexception", resultMap);
+                servletRequest.setAttribute(TOKEN_EXCEPTION_ATTRIBUTE, verification);
                 //access token이 없을 경우에
                 //토큰에 대한 정보를 저장해서 보내야 한다
                 logger.debug("유효한 JWT 토큰이 없습니다, uri: {}", requestURI);
@@ -57,10 +63,8 @@ public class JwtFilter extends GenericFilterBean {
             }
         } else  //아예 인증정보 없이 왔을때도 별도의 에러처리가 필요할 수도 있다
         {
-            Map<String, String> map = new HashMap<>();
-            map.put("result", "FAIL");
-            map.put("msg", "인증정보가 없습니다");
-            servletRequest.setAttribute("tokenexception", map);
+            servletRequest.setAttribute(TOKEN_EXCEPTION_ATTRIBUTE,
+                    TokenVerification.failed(TokenVerification.Status.MISSING));
         }
 
 
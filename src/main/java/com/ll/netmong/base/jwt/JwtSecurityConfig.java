@@ -1,5 +1,9 @@
 package com.ll.netmong.base.jwt;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenRevocations;
+import com.ll.netmong.base.ratelimit.RateLimitFilter;
+import com.ll.netmong.base.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,11 +13,18 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
     private final TokenProvider tokenProvider;
+    private final RefreshTokenRevocations revocations;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
     @Override
     public void configure(HttpSecurity http) {
         http.addFilterBefore(
-            new JwtFilter(tokenProvider),  UsernamePasswordAuthenticationFilter.class
+            new JwtFilter(tokenProvider, revocations),  UsernamePasswordAuthenticationFilter.class
+        );
+        // 제한에 걸린 요청은 토큰 검증 전에 돌려보낸다.
+        http.addFilterBefore(
+            new RateLimitFilter(rateLimiter, objectMapper), JwtFilter.class
         );
     }
 }
@@ -1,6 +1,9 @@
 package com.ll.netmong.base.jwt;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -15,8 +18,13 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 //토큰을 공급한다 - 토큰을 발행하고 토큰의 형식이 맞는지 체크한다 
@@ -24,113 +32,146 @@ import java.util.stream.Collectors;
 public class TokenProvider implements InitializingBean {
 
    private static final String AUTHORITIES_KEY = "auth";
+   private static final String FAMILY_KEY = "fid";
 	//로그확인하기
    private final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
    private final String secret;
    private final long tokenValidityInMilliseconds;
-   private final String secret2;
    private final long tokenValidityInMilliseconds2;
    private Key key;
+   private JwtParser parser;
+
+   @Value("${custom.jwt.verified-cache.max-size:10000}")
+   private long verifiedCacheMaxSize;
+   private Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
    //
    public TokenProvider(
       @Value("${custom.jwt.secret}") String secret,
       @Value("${custom.jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
-	  @Value("${custom.jwt.secret2}") String secret2,
 	  @Value("${custom.jwt.token-validity-in-seconds2}") long tokenValidityInSeconds2)
 
    {
       this.secret = secret;
       this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
-      this.secret2 = secret2;
-      this.tokenValidityInMilliseconds2 = tokenValidityInSeconds2 * 2000;
+      this.tokenValidityInMilliseconds2 = tokenValidityInSeconds2 * 1000;
    }
 
    @Override
    public void afterPropertiesSet() {
       byte[] keyBytes = Decoders.BASE64.decode(secret);
       this.key = Keys.hmacShaKeyFor(keyBytes);
+      // 파서는 스레드 안전하므로 한 번만 만들어 재사용한다.
+      this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+      this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaxSize)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
    }
 
-   public TokenDto createToken(Authentication authentication) {
-      String authorities = authentication.getAuthorities().stream()
-         .map(GrantedAuthority::getAuthority)
-         .collect(Collectors.joining(","));
-
-
+   // 액세스 토큰에는 리프레시 토큰 family 를 넣어 로그아웃·재사용 감지 시 함께 폐기할 수 있게 한다.
+   public String createAccessToken(String subject, String authorities, String familyId) {
       long now = (new Date()).getTime();
       Date validity = new Date(now + this.tokenValidityInMilliseconds);
-      Date validity2 = new Date(now + this.tokenValidityInMilliseconds2);
-
-       System.out.println("authentication = " + authentication.toString());
-      
-      String access_token = Jwts.builder()
-    	         .setSubject(authentication.getName())
-    	         .claim(AUTHORITIES_KEY, authorities)
-    	         .signWith(key, SignatureAlgorithm.HS512)
-    	         .setExpiration(validity)
-    	         .compact();
-      
-      String refresh_token = Jwts.builder()
- 	         .setSubject(authentication.getName())
- 	         .claim(AUTHORITIES_KEY, authorities)
- 	         .signWith(key, SignatureAlgorithm.HS512)
- 	         .setExpiration(validity2)
- 	         .compact();
-      
-      //access_token은 사용자에게 보내고 
-      //refresh_token은 디비에 저장하고 나중에 써야 한다 
-      
-      return new TokenDto(access_token, refresh_token);
-      
 
+      return Jwts.builder()
+            .setSubject(subject)
+            .claim(AUTHORITIES_KEY, authorities)
+            .claim(FAMILY_KEY, familyId)
+            .signWith(key, SignatureAlgorithm.HS512)
+            .setExpiration(validity)
+            .compact();
    }
 
-   public Authentication getAuthentication(String token) {
-      Claims claims = Jwts
-              .parserBuilder()
-              .setSigningKey(key)
-              .build()
-              .parseClaimsJws(token)
-              .getBody();
-
-      Collection<? extends GrantedAuthority> authorities =
-         Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
-  
-      User principal = new User(claims.getSubject(), "", authorities);
-      return new UsernamePasswordAuthenticationToken(principal, token, authorities);
-  
+   public long getRefreshTokenValidityInMilliseconds() {
+      return tokenValidityInMilliseconds2;
    }
 
-   //토큰이 맞는지 확인한다 
-   public Map<String, String> validateToken(String token) {
-	   Map<String, String> map = new HashMap<>();
-	   
+   // 서명 검증과 클레임 파싱을 한 번에 한다. 이미 검증한 토큰은 만료 시각까지 캐시해 다시 파싱하지 않는다.
+   public TokenVerification verify(String token) {
+      ByteBuffer cacheKey = hash(token);
+      VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+      if (cached != null) {
+         return TokenVerification.valid(cached.toAuthentication(token), cached.familyId);
+      }
+
+      Claims claims;
       try {
-         Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-         map.put("result", "SUCCESS");
-         map.put("msg", "인증성공");
+         claims = parser.parseClaimsJws(token).getBody();
       } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
          logger.info("잘못된 JWT 서명입니다.");
-         map.put("result", "FAIL");
-         map.put("msg", "잘못된 JWT 서명입니다");
-       
+         return TokenVerification.failed(TokenVerification.Status.INVALID_SIGNATURE);
       } catch (ExpiredJwtException e) {
          logger.info("만료된 JWT 토큰입니다.");
-         map.put("result", "FAIL");
-         map.put("msg", "만료된 JWT 토큰입니다.");
-        
+         return TokenVerification.failed(TokenVerification.Status.EXPIRED);
       } catch (UnsupportedJwtException e) {
-    	 map.put("result", "FAIL");
-         map.put("msg", "지원되지 않는 JWT 토큰입니다");
          logger.info("지원되지 않는 JWT 토큰입니다.");
+         return TokenVerification.failed(TokenVerification.Status.UNSUPPORTED);
       } catch (IllegalArgumentException e) {
          logger.info("JWT 토큰이 잘못되었습니다.");
-         map.put("result", "FAIL");
-         map.put("msg", "JWT 토큰이 잘못되었습니다.");
+         return TokenVerification.failed(TokenVerification.Status.ILLEGAL);
+      }
+
+      List<GrantedAuthority> authorities = Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+      VerifiedToken verified = new VerifiedToken(new User(claims.getSubject(), "", authorities), authorities,
+            claims.get(FAMILY_KEY, String.class), claims.getExpiration() == null ? 0L : claims.getExpiration().getTime());
+      if (verified.expiresAtMillis > 0) {
+         verifiedTokens.put(cacheKey, verified);
+      }
+
+      return TokenVerification.valid(verified.toAuthentication(token), verified.familyId);
+   }
+
+   public long verifiedTokenCount() {
+      return verifiedTokens.estimatedSize();
+   }
+
+   // 메모리에 토큰 원문을 두지 않도록 SHA-256 값을 키로 쓴다.
+   private static ByteBuffer hash(String token) {
+      try {
+         return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   // 인증 객체는 요청마다 새로 만들고 변하지 않는 principal / 권한만 공유한다.
+   private static class VerifiedToken {
+      private final User principal;
+      private final List<GrantedAuthority> authorities;
+      private final String familyId;
+      private final long expiresAtMillis;
+
+      private VerifiedToken(User principal, List<GrantedAuthority> authorities, String familyId, long expiresAtMillis) {
+         this.principal = principal;
+         this.authorities = authorities;
+         this.familyId = familyId;
+         this.expiresAtMillis = expiresAtMillis;
+      }
+
+      private Authentication toAuthentication(String token) {
+         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+      }
+   }
+
+   // 항목마다 토큰의 exp 까지만 살아 있다.
+   private static class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+      @Override
+      public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+         long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+         return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+      }
+
+      @Override
+      public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+         return expireAfterCreate(key, value, currentTime);
+      }
+
+      @Override
+      public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+         return currentDuration;
       }
-      return map;
    }
 }
@@ -1,30 +1,23 @@
 package com.ll.netmong.base.jwt;
 
-import com.ll.netmong.domain.member.dto.LoginDto;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenService;
+import com.ll.netmong.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class TokenService {
 
-    private final TokenProvider tokenProvider;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
-
-    public TokenDto provideTokenWithLoginDto(LoginDto loginDto){
-        UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(
-                        loginDto.getEmail(),
-                        loginDto.getPassword());
+    private final RefreshTokenService refreshTokenService;
 
+    // 비밀번호는 MemberService.login 에서 이미 한 번 검증했으므로 AuthenticationManager 로 다시 검증하지 않는다.
+    public TokenDto provideTokenForMember(Member member) {
         Authentication authentication =
-                authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+                new UsernamePasswordAuthenticationToken(member.getEmail(), null, member.getGrantedAuthorities());
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        return tokenProvider.createToken(authentication);
+        return refreshTokenService.issue(authentication);
     }
 }
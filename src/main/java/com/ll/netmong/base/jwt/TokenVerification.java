@@ -0,0 +1,52 @@
+package com.ll.netmong.base.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+
+// 토큰 검증 결과. 실패 사유는 JwtAuthenticationEntryPoint 가 응답 메시지로 사용한다.
+@Getter
+public class TokenVerification {
+
+   public enum Status {
+      VALID("인증성공"),
+      INVALID_SIGNATURE("잘못된 JWT 서명입니다"),
+      EXPIRED("만료된 JWT 토큰입니다."),
+      UNSUPPORTED("지원되지 않는 JWT 토큰입니다"),
+      ILLEGAL("JWT 토큰이 잘못되었습니다."),
+      MISSING("인증정보가 없습니다"),
+      REVOKED("폐기된 JWT 토큰입니다.");
+
+      private final String message;
+
+      Status(String message) {
+         this.message = message;
+      }
+   }
+
+   private final Status status;
+   private final Authentication authentication;
+   // 토큰을 발급한 리프레시 토큰 family. fid 클레임이 없는 이전 토큰은 null 이다.
+   private final String familyId;
+
+   private TokenVerification(Status status, Authentication authentication, String familyId) {
+      this.status = status;
+      this.authentication = authentication;
+      this.familyId = familyId;
+   }
+
+   public static TokenVerification valid(Authentication authentication, String familyId) {
+      return new TokenVerification(Status.VALID, authentication, familyId);
+   }
+
+   public static TokenVerification failed(Status status) {
+      return new TokenVerification(status, null, null);
+   }
+
+   public boolean isValid() {
+      return status == Status.VALID;
+   }
+
+   public String getMessage() {
+      return status.message;
+   }
+}
@@ -0,0 +1,7 @@
+package com.ll.netmong.base.jwt.refresh;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
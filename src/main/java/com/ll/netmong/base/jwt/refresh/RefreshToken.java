@@ -0,0 +1,52 @@
+package com.ll.netmong.base.jwt.refresh;
+
+import com.ll.netmong.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 발급한 리프레시 토큰. 원문 대신 SHA-256 값만 저장한다.
+// 로그인 한 번에서 회전으로 이어진 토큰들은 같은 family_id 를 가지며, 재사용이 감지되면 family 전체를 폐기한다.
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_member_family", columnList = "member_email, family_id"),
+        @Index(name = "idx_refresh_token_family", columnList = "family_id")
+})
+public class RefreshToken extends BaseEntity {
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "member_email", nullable = false)
+    private String memberEmail;
+
+    // 새 액세스 토큰을 발급할 때 회원을 다시 조회하지 않도록 발급 당시 권한을 보관한다.
+    @Column(nullable = false)
+    private String authorities;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 회전·폐기는 조건부 UPDATE 로만 바꾼다.
+    @Column(name = "used_at", updatable = false)
+    private LocalDateTime usedAt;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "boolean default false")
+    private boolean revoked;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ll.netmong.base.jwt.refresh;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    boolean existsByFamilyIdAndRevokedTrue(String familyId);
+
+    // 아직 쓰이지 않은 토큰만 사용 처리한다. 0 을 반환하면 이미 회전된 토큰이 다시 쓰인 것이다.
+    @Modifying
+    @Query(value = "UPDATE refresh_token SET used_at = :now WHERE id = :id AND used_at IS NULL AND revoked = false", nativeQuery = true)
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE refresh_token SET revoked = true WHERE family_id = :familyId", nativeQuery = true)
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Query("SELECT DISTINCT r.familyId FROM RefreshToken r WHERE r.memberEmail = :memberEmail AND r.revoked = false")
+    List<String> findActiveFamilyIdsByMemberEmail(@Param("memberEmail") String memberEmail);
+
+    // 만료되지 않은 family 만 필요하다. 만료된 family 의 액세스 토큰은 이미 서명 검증에서 걸러진다.
+    @Query("SELECT DISTINCT r.familyId FROM RefreshToken r WHERE r.revoked = true AND r.expiresAt > :now")
+    List<String> findRevokedFamilyIdsExpiringAfter(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,121 @@
+package com.ll.netmong.base.jwt.refresh;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.netmong.base.jwt.TokenProvider;
+import com.ll.netmong.common.AfterCommit;
+import com.ll.netmong.common.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 폐기된 토큰 family 를 블룸 필터로 들고 있어 JwtFilter 가 요청마다 DB 를 보지 않고 폐기 여부를 판단하게 한다.
+// 필터가 "없다" 고 하면 바로 통과시키고, "있을 수도 있다" 고 할 때만 DB 로 확인한 뒤 그 결과를 캐시한다.
+// 블룸 필터는 삭제가 안 되므로 주기적으로 DB 에서 다시 만들어 만료된 family 를 털어낸다.
+@Component
+public class RefreshTokenRevocations {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenRevocations.class);
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate loadTransaction;
+    private final long expectedInsertions;
+    private final Cache<String, Boolean> confirmed;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready = false;
+    // 직전 재구성 이후 폐기된 family. 재구성 쿼리 시점에 아직 커밋되지 않았을 수 있으므로
+    // 이전 구간 것과 함께 새 필터에 다시 넣는다.
+    private List<String> revokedSinceRebuild = new ArrayList<>();
+
+    public RefreshTokenRevocations(RefreshTokenRepository refreshTokenRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   TokenProvider tokenProvider,
+                                   @Value("${custom.jwt.revocation.expected-insertions:100000}") long expectedInsertions) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        // 리프레시 토큰이 만료된 family 는 더 확인할 일이 없으므로 토큰 수명만큼만 들고 있는다.
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(tokenProvider.getRefreshTokenValidityInMilliseconds()))
+                .build();
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    // 만료된 family 를 필터에서 털어내기 위해 하루 한 번 다시 만든다.
+    @Scheduled(fixedDelayString = "${custom.jwt.revocation.rebuild-interval-ms:86400000}",
+            initialDelayString = "${custom.jwt.revocation.rebuild-interval-ms:86400000}")
+    public void rebuild() {
+        List<String> carried;
+        synchronized (this) {
+            carried = revokedSinceRebuild;
+            revokedSinceRebuild = new ArrayList<>();
+        }
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        List<String> familyIds;
+        try {
+            familyIds = loadTransaction.execute(status ->
+                    refreshTokenRepository.findRevokedFamilyIdsExpiringAfter(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                carried.addAll(revokedSinceRebuild);
+                revokedSinceRebuild = carried;
+            }
+            throw e;
+        }
+        familyIds.forEach(rebuilt::put);
+        carried.forEach(rebuilt::put);
+
+        synchronized (this) {
+            revokedSinceRebuild.forEach(rebuilt::put);
+            filter = rebuilt;
+            ready = true;
+        }
+        log.info("폐기된 토큰 family {}개로 블룸 필터를 구성했습니다. ({} bytes)", familyIds.size(), rebuilt.sizeInBytes());
+    }
+
+    public boolean isRevoked(String familyId) {
+        if (familyId == null) {
+            return false;
+        }
+        if (ready && !filter.mightContain(familyId)) {
+            return false;
+        }
+        // 적재 전이거나 필터가 양성일 때만 DB 로 확인한다.
+        return confirmed.get(familyId, refreshTokenRepository::existsByFamilyIdAndRevokedTrue);
+    }
+
+    // 폐기 트랜잭션 안에서 호출한다. 필터에는 바로 넣고(오탐은 DB 확인으로 걸러진다), 확인 캐시는 커밋 뒤에 비운다.
+    public void revoked(String familyId) {
+        synchronized (this) {
+            filter.put(familyId);
+            revokedSinceRebuild.add(familyId);
+        }
+        AfterCommit.run(() -> confirmed.invalidate(familyId));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
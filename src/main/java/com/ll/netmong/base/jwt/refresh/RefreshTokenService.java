@@ -0,0 +1,138 @@
+package com.ll.netmong.base.jwt.refresh;
+
+import com.ll.netmong.base.jwt.TokenDto;
+import com.ll.netmong.base.jwt.TokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 리프레시 토큰은 서명된 JWT 대신 임의의 불투명 문자열로 발급하고, DB 에는 해시만 남긴다.
+// 사용할 때마다 같은 family 의 새 토큰으로 회전하며, 이미 회전된 토큰이 다시 오면 탈취로 보고 family 전체를 폐기한다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN = "유효하지 않은 리프레시 토큰입니다.";
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRevocations revocations;
+    private final TokenProvider tokenProvider;
+
+    // 로그인 시 새 family 를 시작한다.
+    @Transactional
+    public TokenDto issue(Authentication authentication) {
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return issue(authentication.getName(), authorities, UUID.randomUUID().toString());
+    }
+
+    // 재사용 감지로 family 를 폐기한 결과는 예외가 나도 커밋되어야 한다.
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenDto rotate(String rawToken) {
+        RefreshToken token = findByRawToken(rawToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.isRevoked() || token.isExpired(now)) {
+            throw new InvalidRefreshTokenException(INVALID_TOKEN);
+        }
+
+        // 동시에 같은 토큰으로 두 번 요청해도 조건부 UPDATE 라 한 요청만 성공한다.
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            log.warn("이미 사용된 리프레시 토큰이 다시 사용되었습니다. family {} 를 폐기합니다.", token.getFamilyId());
+            revokeFamily(token.getFamilyId());
+            throw new InvalidRefreshTokenException(INVALID_TOKEN);
+        }
+
+        return issue(token.getMemberEmail(), token.getAuthorities(), token.getFamilyId());
+    }
+
+    // 로그아웃: 본인 토큰의 family 만 폐기한다.
+    @Transactional
+    public void revoke(String rawToken, String memberEmail) {
+        RefreshToken token = findByRawToken(rawToken);
+        if (!token.getMemberEmail().equals(memberEmail)) {
+            throw new InvalidRefreshTokenException(INVALID_TOKEN);
+        }
+        revokeFamily(token.getFamilyId());
+    }
+
+    // 모든 기기에서 로그아웃
+    @Transactional
+    public int revokeAll(String memberEmail) {
+        List<String> familyIds = refreshTokenRepository.findActiveFamilyIdsByMemberEmail(memberEmail);
+        familyIds.forEach(this::revokeFamily);
+        return familyIds.size();
+    }
+
+    @Scheduled(cron = "${custom.jwt.refresh-token.purge-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 {}개를 삭제했습니다.", deleted);
+    }
+
+    private TokenDto issue(String memberEmail, String authorities, String familyId) {
+        String rawToken = newRawToken();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .memberEmail(memberEmail)
+                .authorities(authorities)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(tokenProvider.getRefreshTokenValidityInMilliseconds())))
+                .build());
+
+        return new TokenDto(tokenProvider.createAccessToken(memberEmail, authorities, familyId), rawToken);
+    }
+
+    private void revokeFamily(String familyId) {
+        revocations.revoked(familyId);
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    private RefreshToken findByRawToken(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidRefreshTokenException(INVALID_TOKEN);
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException(INVALID_TOKEN));
+    }
+
+    private String newRawToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
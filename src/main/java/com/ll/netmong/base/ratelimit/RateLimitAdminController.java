@@ -0,0 +1,22 @@
+package com.ll.netmong.base.ratelimit;
+
+import com.ll.netmong.common.RsData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/rate-limit")
+public class RateLimitAdminController {
+
+    private final RateLimiter rateLimiter;
+
+    @GetMapping
+    public RsData<List<RateLimitStats>> getRateLimitStats() {
+        return RsData.successOf(rateLimiter.stats());
+    }
+}
@@ -0,0 +1,99 @@
+package com.ll.netmong.base.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.netmong.common.RsData;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 로그인·회원가입 같은 공개 API 를 IP / 이메일별 토큰 버킷으로 제한한다. JwtFilter 앞에서 동작해 거절된 요청은 토큰도 검사하지 않는다.
+// 로그인은 CompletableFuture 를 돌려주므로 ASYNC 로 다시 디스패치되는데, OncePerRequestFilter 라 그때는 다시 차감하지 않는다.
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws IOException, ServletException {
+        String path = request.getRequestURI();
+
+        if (!"POST".equals(request.getMethod()) || !rateLimiter.isLimited(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String email = null;
+        if (rateLimiter.needsEmail(path)) {
+            CachedBodyRequest cached = cacheBody(request);
+            if (cached == null) {
+                // 로그인·회원가입 본문이 이만큼 클 일은 없으므로 읽지도, 버퍼에 담지도 않고 거절한다.
+                reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+                return;
+            }
+            email = extractEmail(cached.getBody());
+            request = cached;
+        }
+
+        // 프록시 헤더는 위조할 수 있으므로 연결 주소를 쓴다. (프록시 뒤라면 ForwardedHeaderFilter 로 바꿔 준다)
+        long waitNanos = rateLimiter.tryAcquire(path, request.getRemoteAddr(), email);
+        if (waitNanos > 0) {
+            logger.debug("요청 제한 초과, uri: {}, ip: {}", path, request.getRemoteAddr());
+            response.setHeader("Retry-After", String.valueOf(Math.max(TimeUnit.NANOSECONDS.toSeconds(waitNanos), 1)));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 상한까지만 읽는다. 길이를 모르는(chunked) 본문이 상한을 넘으면 나머지는 읽지 않고 null 을 돌려준다.
+    private CachedBodyRequest cacheBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            return null;
+        }
+
+        InputStream input = request.getInputStream();
+        byte[] body = input.readNBytes(MAX_BODY_BYTES + 1);
+        return body.length > MAX_BODY_BYTES ? null : new CachedBodyRequest(request, body);
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email == null || !email.isTextual() ? null : email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // 본문이 JSON 이 아니면 컨트롤러가 400 으로 처리한다.
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), RsData.failOf(message));
+    }
+}
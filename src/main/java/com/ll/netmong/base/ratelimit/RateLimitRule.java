@@ -0,0 +1,31 @@
+package com.ll.netmong.base.ratelimit;
+
+import lombok.Getter;
+
+// 엔드포인트 하나에 대한 제한. 분당 refillPerMinute 개씩 채워지고 최대 capacity 개까지 몰아서 쓸 수 있다.
+@Getter
+public class RateLimitRule {
+
+    public enum KeyType {
+        IP, EMAIL
+    }
+
+    private final String name;
+    private final String path;
+    private final KeyType keyType;
+    private final long capacity;
+    private final long refillPerMinute;
+
+    public RateLimitRule(String name, String path, KeyType keyType, long capacity, long refillPerMinute) {
+        this.name = name;
+        this.path = path;
+        this.keyType = keyType;
+        this.capacity = capacity;
+        this.refillPerMinute = refillPerMinute;
+    }
+
+    // 빈 버킷이 가득 찰 때까지 걸리는 시간. 이보다 오래 쓰이지 않은 버킷은 가득 찬 것과 같으므로 버려도 된다.
+    public long nanosToFill() {
+        return (long) Math.ceil(capacity * 60_000_000_000.0 / refillPerMinute);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ll.netmong.base.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitStats {
+    private String name;
+    private String path;
+    private String keyType;
+    private long capacity;
+    private long refillPerMinute;
+    private long activeBuckets;
+    // 토큰이 없어 지금 요청하면 거절되는 키 수
+    private long emptyBuckets;
+    private long allowedCount;
+    private long rejectedCount;
+    private long evictionCount;
+}
@@ -0,0 +1,116 @@
+package com.ll.netmong.base.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.ll.netmong.base.ratelimit.RateLimitRule.KeyType.EMAIL;
+import static com.ll.netmong.base.ratelimit.RateLimitRule.KeyType.IP;
+
+// 인증 없이 호출할 수 있고 bcrypt / DB 비용이 드는 회원 API 의 호출 횟수를 제한한다.
+// 버킷은 규칙별로 개수 상한이 있는 Caffeine 캐시에 두고, 가득 찰 시간만큼 쓰이지 않으면 버린다.
+@Component
+public class RateLimiter {
+    private final boolean enabled;
+    private final Map<String, List<Limit>> limitsByPath = new LinkedHashMap<>();
+    private final List<Limit> limits = new ArrayList<>();
+
+    public RateLimiter(@Value("${custom.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${custom.rate-limit.max-buckets:100000}") long maxBuckets,
+                       @Value("${custom.rate-limit.login.ip-per-minute:30}") long loginPerIp,
+                       @Value("${custom.rate-limit.login.email-per-minute:5}") long loginPerEmail,
+                       @Value("${custom.rate-limit.join.ip-per-minute:10}") long joinPerIp,
+                       @Value("${custom.rate-limit.join.email-per-minute:3}") long joinPerEmail,
+                       @Value("${custom.rate-limit.dup-username.ip-per-minute:60}") long dupUsernamePerIp,
+                       @Value("${custom.rate-limit.dup-email.ip-per-minute:60}") long dupEmailPerIp) {
+        this.enabled = enabled;
+
+        add(new RateLimitRule("login-ip", "/api/v1/members/login", IP, loginPerIp, loginPerIp), maxBuckets);
+        add(new RateLimitRule("login-email", "/api/v1/members/login", EMAIL, loginPerEmail, loginPerEmail), maxBuckets);
+        add(new RateLimitRule("join-ip", "/api/v1/members/join", IP, joinPerIp, joinPerIp), maxBuckets);
+        add(new RateLimitRule("join-email", "/api/v1/members/join", EMAIL, joinPerEmail, joinPerEmail), maxBuckets);
+        add(new RateLimitRule("dup-username-ip", "/api/v1/members/dup-username", IP, dupUsernamePerIp, dupUsernamePerIp), maxBuckets);
+        add(new RateLimitRule("dup-email-ip", "/api/v1/members/dup-email", IP, dupEmailPerIp, dupEmailPerIp), maxBuckets);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isLimited(String path) {
+        return enabled && limitsByPath.containsKey(path);
+    }
+
+    // 이메일 규칙이 있는 엔드포인트만 요청 본문을 읽는다.
+    public boolean needsEmail(String path) {
+        return isLimited(path) && limitsByPath.get(path).stream().anyMatch(limit -> limit.rule.getKeyType() == EMAIL);
+    }
+
+    // 경로에 걸린 규칙을 IP, 이메일 순으로 적용한다. 허용되면 0, 거절되면 다음 토큰까지 남은 나노초를 반환한다.
+    public long tryAcquire(String path, String ip, String email) {
+        if (!isLimited(path)) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        for (Limit limit : limitsByPath.get(path)) {
+            String key = limit.rule.getKeyType() == IP ? ip : email;
+            if (key == null) {
+                continue;
+            }
+
+            TokenBucket bucket = limit.buckets.get(key,
+                    k -> new TokenBucket(limit.rule.getCapacity(), limit.rule.getRefillPerMinute(), now));
+            if (!bucket.tryConsume(now)) {
+                limit.rejected.increment();
+                return Math.max(bucket.nanosUntilNextToken(now), 1);
+            }
+            limit.allowed.increment();
+        }
+        return 0;
+    }
+
+    public List<RateLimitStats> stats() {
+        long now = System.nanoTime();
+        List<RateLimitStats> stats = new ArrayList<>();
+        for (Limit limit : limits) {
+            long emptyBuckets = limit.buckets.asMap().values().stream()
+                    .filter(bucket -> bucket.availableTokens(now) < 1)
+                    .count();
+            stats.add(new RateLimitStats(limit.rule.getName(), limit.rule.getPath(), limit.rule.getKeyType().name(),
+                    limit.rule.getCapacity(), limit.rule.getRefillPerMinute(), limit.buckets.estimatedSize(),
+                    emptyBuckets, limit.allowed.sum(), limit.rejected.sum(), limit.buckets.stats().evictionCount()));
+        }
+        return stats;
+    }
+
+    private void add(RateLimitRule rule, long maxBuckets) {
+        Limit limit = new Limit(rule, Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofNanos(rule.nanosToFill()))
+                .recordStats()
+                .build());
+        limits.add(limit);
+        limitsByPath.computeIfAbsent(rule.getPath(), path -> new ArrayList<>()).add(limit);
+    }
+
+    private static class Limit {
+        private final RateLimitRule rule;
+        private final Cache<String, TokenBucket> buckets;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private Limit(RateLimitRule rule, Cache<String, TokenBucket> buckets) {
+            this.rule = rule;
+            this.buckets = buckets;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ll.netmong.base.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 락 없이 CAS 로만 갱신하는 토큰 버킷. 토큰은 마지막 갱신 이후 흐른 시간만큼 연속적으로 채워진다.
+public class TokenBucket {
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, long refillPerMinute, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000.0;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    public boolean tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = refilled(current, nowNanos);
+            if (tokens < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.updatedAtNanos)))) {
+                return true;
+            }
+        }
+    }
+
+    public double availableTokens(long nowNanos) {
+        return refilled(state.get(), nowNanos);
+    }
+
+    // 토큰 한 개가 다시 찰 때까지 남은 시간
+    public long nanosUntilNextToken(long nowNanos) {
+        double missing = 1 - refilled(state.get(), nowNanos);
+        return missing <= 0 ? 0 : (long) Math.ceil(missing / tokensPerNano);
+    }
+
+    private double refilled(State current, long nowNanos) {
+        long elapsed = Math.max(nowNanos - current.updatedAtNanos, 0);
+        return Math.min(capacity, current.tokens + elapsed * tokensPerNano);
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long updatedAtNanos;
+
+        private State(double tokens, long updatedAtNanos) {
+            this.tokens = tokens;
+            this.updatedAtNanos = updatedAtNanos;
+        }
+    }
+}
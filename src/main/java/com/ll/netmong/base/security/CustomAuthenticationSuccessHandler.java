@@ -1,7 +1,7 @@
 package com.ll.netmong.base.security;
 
 import com.ll.netmong.base.jwt.TokenDto;
-import com.ll.netmong.base.jwt.TokenProvider;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +18,13 @@ import java.io.IOException;
 public class CustomAuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     @Value("${custom.site.frontUrl}")
     private String REDIRECT_URI;
-    private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException {
 
-        TokenDto token = tokenProvider.createToken(authentication);
+        TokenDto token = refreshTokenService.issue(authentication);
         String url = makeRedirectUrl(token.getAccess_token());
         getRedirectStrategy().sendRedirect(request, response, url);
     }
@@ -0,0 +1,7 @@
+package com.ll.netmong.base.security.password;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ll.netmong.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 한 번만 실행해야 하는 데이터 보정 작업이 끝났음을 표시한다. 행은 OneTimeBackfill 이 직접 넣는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillMarker {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime completedDate;
+}
@@ -0,0 +1,175 @@
+package com.ll.netmong.common;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Roaring 방식의 압축 비트맵.
+// id 의 상위 비트로 16비트 구간(container)을 나누고, 구간 안의 값이 적으면 정렬된 char 배열,
+// 4096 개를 넘으면 8KB 비트맵으로 저장한다. 동기화는 호출하는 쪽에서 맡는다.
+public class CompressedBitmap {
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int CONTAINER_OVERHEAD_BYTES = 48;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+
+    public boolean add(long value) {
+        Container container = containers.get(value >>> 16);
+        if (container == null) {
+            container = new ArrayContainer();
+            containers.put(value >>> 16, container);
+        }
+
+        Container updated = container.add((char) value);
+        if (updated == null) {
+            return false;
+        }
+        containers.put(value >>> 16, updated);
+        return true;
+    }
+
+    public boolean remove(long value) {
+        Container container = containers.get(value >>> 16);
+        if (container == null || !container.remove((char) value)) {
+            return false;
+        }
+        if (container.cardinality() == 0) {
+            containers.remove(value >>> 16);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        Container container = containers.get(value >>> 16);
+        return container != null && container.contains((char) value);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (Container container : containers.values()) {
+            cardinality += container.cardinality();
+        }
+        return cardinality;
+    }
+
+    // 캐시 용량 계산을 위한 대략적인 메모리 사용량
+    public long sizeInBytes() {
+        long size = CONTAINER_OVERHEAD_BYTES;
+        for (Container container : containers.values()) {
+            size += CONTAINER_OVERHEAD_BYTES + container.sizeInBytes();
+        }
+        return size;
+    }
+
+    private interface Container {
+        // 새로 추가되면 (형태가 바뀌었을 수 있는) 컨테이너를, 이미 있으면 null 을 반환한다.
+        Container add(char low);
+
+        boolean remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    private static class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size = 0;
+
+        @Override
+        public Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return null;
+            }
+            if (size >= ARRAY_MAX_SIZE) {
+                BitmapContainer bitmap = new BitmapContainer();
+                for (int i = 0; i < size; i++) {
+                    bitmap.add(values[i]);
+                }
+                bitmap.add(low);
+                return bitmap;
+            }
+
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) values.length * Character.BYTES;
+        }
+    }
+
+    private static class BitmapContainer implements Container {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality = 0;
+
+        @Override
+        public Container add(char low) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) != 0) {
+                return null;
+            }
+            words[low >>> 6] |= mask;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                return false;
+            }
+            words[low >>> 6] &= ~mask;
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) BITMAP_WORDS * Long.BYTES;
+        }
+    }
+}
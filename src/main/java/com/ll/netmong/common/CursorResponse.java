@@ -0,0 +1,23 @@
+package com.ll.netmong.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorResponse(Slice<T> slice, String nextCursor) {
+        this.content = slice.getContent();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.nextCursor = nextCursor;
+    }
+}
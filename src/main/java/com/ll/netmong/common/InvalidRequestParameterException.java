@@ -0,0 +1,8 @@
+package com.ll.netmong.common;
+
+// 커서, 페이지 크기, 좌표처럼 클라이언트가 보낸 조회 조건이 잘못되었을 때 400 으로 응답한다.
+public class InvalidRequestParameterException extends IllegalArgumentException {
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ll.netmong.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+// 새 컬럼을 기존 데이터로 채우는 작업을 배포 후 한 번만 실행한다.
+// 표시 행을 먼저 넣고 커밋하지 않은 채 작업을 실행하므로, 동시에 기동한 다른 인스턴스는 표시 행 잠금에서 기다렸다가
+// 중복 키로 건너뛰고, 작업이 실패하면 표시 행도 롤백되어 다음 기동 때 다시 실행된다.
+@Component
+public class OneTimeBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(OneTimeBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate markerTransaction;
+
+    public OneTimeBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.markerTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // 작업이 나눠서 커밋할 수 있도록 여러 번 실행해도 결과가 같은 작업만 넘긴다.
+    public boolean runOnce(String name, Runnable task) {
+        Boolean ran = markerTransaction.execute(status -> {
+            try {
+                jdbcTemplate.update("INSERT INTO backfill_marker (name, completed_date) VALUES (?, ?)", name, LocalDateTime.now());
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+            task.run();
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(ran)) {
+            logger.info("데이터 보정 완료: {}", name);
+        }
+        return Boolean.TRUE.equals(ran);
+    }
+}
@@ -4,6 +4,8 @@ import com.ll.netmong.common.BaseEntity;
 import com.ll.netmong.domain.member.entity.Member;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,7 @@ import lombok.experimental.SuperBuilder;
 
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "followee_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,7 @@
+package com.ll.netmong.domain.follow.exception;
+
+public class AlreadyFollowedException extends RuntimeException {
+    public AlreadyFollowedException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ll.netmong.domain.follow.graph;
+
+public interface FollowEdge {
+    Long getFollowerId();
+
+    Long getFolloweeId();
+}
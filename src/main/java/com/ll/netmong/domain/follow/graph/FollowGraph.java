@@ -0,0 +1,146 @@
+package com.ll.netmong.domain.follow.graph;
+
+import com.ll.netmong.domain.follow.repository.FollowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 회원별 팔로우 관계를 정렬된 long 배열(인접 리스트)로 메모리에 둔다.
+// 배열은 바꾸지 않고 갱신할 때마다 새로 만들어 교체하므로 조회는 잠금 없이 이진 탐색으로 끝난다.
+@Component
+public class FollowGraph {
+    private static final Logger logger = LoggerFactory.getLogger(FollowGraph.class);
+    private static final long[] EMPTY = new long[0];
+
+    private final FollowRepository followRepository;
+
+    // 회원 id -> 그 회원이 팔로우하는 회원 id
+    private final Map<Long, long[]> followings = new ConcurrentHashMap<>();
+    // 회원 id -> 그 회원을 팔로우하는 회원 id
+    private final Map<Long, long[]> followers = new ConcurrentHashMap<>();
+    // 초기 적재가 끝나기 전의 변경은 모아 두었다가 적재 결과 위에 다시 적용한다.
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    private volatile boolean ready = false;
+
+    public FollowGraph(FollowRepository followRepository) {
+        this.followRepository = followRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, List<Long>> loadedFollowings = new HashMap<>();
+        Map<Long, List<Long>> loadedFollowers = new HashMap<>();
+        for (FollowEdge edge : followRepository.findAllEdges()) {
+            loadedFollowings.computeIfAbsent(edge.getFollowerId(), key -> new ArrayList<>()).add(edge.getFolloweeId());
+            loadedFollowers.computeIfAbsent(edge.getFolloweeId(), key -> new ArrayList<>()).add(edge.getFollowerId());
+        }
+
+        synchronized (pendingChanges) {
+            loadedFollowings.forEach((memberId, ids) -> followings.put(memberId, toSortedArray(ids)));
+            loadedFollowers.forEach((memberId, ids) -> followers.put(memberId, toSortedArray(ids)));
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            ready = true;
+        }
+
+        logger.info("팔로우 그래프 적재 완료: 회원 {}명", loadedFollowings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isFollowing(Long followerId, Long followeeId) {
+        return Arrays.binarySearch(followings.getOrDefault(followerId, EMPTY), followeeId) >= 0;
+    }
+
+    public long[] findFollowingIds(Long memberId) {
+        return followings.getOrDefault(memberId, EMPTY);
+    }
+
+    public long[] findFollowerIds(Long memberId) {
+        return followers.getOrDefault(memberId, EMPTY);
+    }
+
+    public int countFollowings(Long memberId) {
+        return findFollowingIds(memberId).length;
+    }
+
+    public int countFollowers(Long memberId) {
+        return findFollowerIds(memberId).length;
+    }
+
+    public void added(Long followerId, Long followeeId) {
+        apply(() -> {
+            followings.compute(followerId, (key, ids) -> insert(ids, followeeId));
+            followers.compute(followeeId, (key, ids) -> insert(ids, followerId));
+        });
+    }
+
+    public void removed(Long followerId, Long followeeId) {
+        apply(() -> {
+            followings.computeIfPresent(followerId, (key, ids) -> delete(ids, followeeId));
+            followers.computeIfPresent(followeeId, (key, ids) -> delete(ids, followerId));
+        });
+    }
+
+    private void apply(Runnable change) {
+        if (!ready) {
+            synchronized (pendingChanges) {
+                if (!ready) {
+                    pendingChanges.add(change);
+                    return;
+                }
+            }
+        }
+        change.run();
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+
+        int insertAt = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    // 비게 되면 null 을 반환해 map 에서 제거한다.
+    private static long[] delete(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        long[] array = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+}
@@ -1,10 +1,14 @@
 package com.ll.netmong.domain.follow.repository;
 
 import com.ll.netmong.domain.follow.entity.Follow;
+import com.ll.netmong.domain.follow.graph.FollowEdge;
 import com.ll.netmong.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +20,18 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     long countByFollowee(Member followee);
 
+    long countByFolloweeId(Long followeeId);
+
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :followeeId")
+    List<Long> findFollowerIdsByFolloweeId(@Param("followeeId") Long followeeId);
+
+    // 회원이 팔로우하는 계정 중 팔로워가 threshold 를 넘는(fan-out-on-read 대상) 계정
+    @Query("SELECT f.followee.id FROM Follow f " +
+            "WHERE f.followee.id IN (SELECT mine.followee.id FROM Follow mine WHERE mine.follower.id = :memberId) " +
+            "GROUP BY f.followee.id HAVING COUNT(f) > :threshold")
+    List<Long> findCelebrityFolloweeIds(@Param("memberId") Long memberId, @Param("threshold") long threshold);
+
+    @Query("SELECT f.follower.id AS followerId, f.followee.id AS followeeId FROM Follow f")
+    List<FollowEdge> findAllEdges();
+
 }
@@ -1,27 +1,51 @@
 package com.ll.netmong.domain.follow.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.follow.dto.FollowCountDto;
 import com.ll.netmong.domain.follow.entity.Follow;
+import com.ll.netmong.domain.follow.exception.AlreadyFollowedException;
 import com.ll.netmong.domain.follow.exception.NotFollowedException;
+import com.ll.netmong.domain.follow.graph.FollowGraph;
 import com.ll.netmong.domain.follow.repository.FollowRepository;
 import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.domain.timeline.service.TimelineService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class FollowService {
     private final FollowRepository followRepository;
+    private final MemberRepository memberRepository;
+    private final FollowGraph followGraph;
+    private final TimelineService timelineService;
 
     @Transactional
     public Long follow(Member follower, Member followee) {
+        if (followRepository.findByFollowerAndFollowee(follower, followee).isPresent()) {
+            throw new AlreadyFollowedException("이미 팔로우 중입니다.");
+        }
+
         Follow follow = Follow.builder()
                 .follower(follower)
                 .followee(followee)
                 .build();
+        Long followId;
+        try {
+            followId = followRepository.saveAndFlush(follow).getId();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 팔로우를 동시에 요청해 unique 제약에 걸린 경우
+            throw new AlreadyFollowedException("이미 팔로우 중입니다.");
+        }
+
+        changeCounts(follower, followee, 1);
+        AfterCommit.run(() -> followGraph.added(follower.getId(), followee.getId()));
 
-        return followRepository.save(follow).getId();
+        return followId;
     }
 
     @Transactional
@@ -30,20 +54,38 @@ public class FollowService {
                 new NotFollowedException("현재 팔로우 중인 상태가 아닙니다.")
         );
         followRepository.delete(follow);
+
+        changeCounts(follower, followee, -1);
+        timelineService.unfollowed(follower.getId(), followee.getId());
+        AfterCommit.run(() -> followGraph.removed(follower.getId(), followee.getId()));
     }
 
+    // 기존 응답 규격대로 followerCount 는 member 가 팔로우하는 수, followeeCount 는 member 를 팔로우하는 수다.
     public FollowCountDto countFollowerAndFollowee(Member member) {
-        long countByFollower = followRepository.countByFollower(member);
-        long countByFollowee = followRepository.countByFollowee(member);
-
-        return new FollowCountDto(countByFollower, countByFollowee);
+        return new FollowCountDto(member.getFollowingCount(), member.getFollowerCount());
     }
 
+    // 그래프는 커밋 뒤에 갱신되므로, 쓰기 트랜잭션 안에서는 아직 커밋되지 않은 변경까지 보이도록 DB 를 조회한다.
     public Boolean isFollowing(Member loginMember, Member foundMember) {
+        if (followGraph.isReady() && !inWriteTransaction()) {
+            return followGraph.isFollowing(loginMember.getId(), foundMember.getId());
+        }
         return followRepository.findByFollowerAndFollowee(loginMember, foundMember).isPresent();
     }
 
     public Follow findById(long id) {
         return followRepository.findById(id).orElseThrow(() -> new NotFollowedException("팔로우 중인 상태가 아닙니다."));
     }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void changeCounts(Member follower, Member followee, long delta) {
+        memberRepository.addFollowingCount(follower.getId(), delta);
+        memberRepository.addFollowerCount(followee.getId(), delta);
+        follower.addFollowingCount(delta);
+        followee.addFollowerCount(delta);
+    }
 }
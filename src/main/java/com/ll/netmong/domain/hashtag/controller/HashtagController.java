@@ -0,0 +1,24 @@
+package com.ll.netmong.domain.hashtag.controller;
+
+import com.ll.netmong.common.RsData;
+import com.ll.netmong.domain.hashtag.dto.response.TrendingHashtagResponse;
+import com.ll.netmong.domain.hashtag.trending.TrendingHashtags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/hashtags")
+public class HashtagController {
+    private final TrendingHashtags trendingHashtags;
+
+    @GetMapping("/trending")
+    public RsData<List<TrendingHashtagResponse>> getTrendingHashtags(@RequestParam(defaultValue = "10") int size) {
+        return RsData.successOf(trendingHashtags.getTop(size));
+    }
+}
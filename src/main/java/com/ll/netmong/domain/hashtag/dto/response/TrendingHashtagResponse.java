@@ -0,0 +1,16 @@
+package com.ll.netmong.domain.hashtag.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingHashtagResponse {
+    private String name;
+    private Long count;
+    private Double score;
+}
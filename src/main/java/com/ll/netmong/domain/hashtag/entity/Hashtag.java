@@ -7,6 +7,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Locale;
+
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -17,4 +19,9 @@ public class Hashtag extends BaseEntity {
     public Hashtag(String name) {
         this.name = name;
     }
+
+    // DB 의 name 비교(MariaDB 기본 collation)처럼 대소문자를 구분하지 않는 비교 키
+    public static String keyOf(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,7 @@
+package com.ll.netmong.domain.hashtag.posting;
+
+public interface HashtagPostRow {
+    String getName();
+
+    Long getPostId();
+}
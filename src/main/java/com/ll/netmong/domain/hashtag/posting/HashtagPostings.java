@@ -0,0 +1,87 @@
+package com.ll.netmong.domain.hashtag.posting;
+
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 해시태그별 게시물 id 목록(최신순)을 미리 만들어 두어 해시태그 검색 시 조인/정렬 없이 id 를 바로 잘라 쓴다.
+// 게시물 작성/수정/삭제 시 HashtagServiceImpl, PostHashtagServiceImpl 이 커밋 후에 갱신한다.
+// DB 검색과 같은 결과가 나오도록 목록은 대소문자를 구분하지 않는 키(Hashtag.keyOf)로 묶는다.
+@Component
+@RequiredArgsConstructor
+public class HashtagPostings {
+    private static final Logger logger = LoggerFactory.getLogger(HashtagPostings.class);
+
+    private final PostHashtagRepository postHashtagRepository;
+
+    // 해시태그 키 -> 게시물 id 목록
+    private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+    // 초기 적재가 끝나기 전의 변경은 모아 두었다가 적재 결과 위에 다시 적용한다.
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, LinkedHashSet<Long>> loaded = new HashMap<>();
+        for (HashtagPostRow row : postHashtagRepository.findAllHashtagPostRows()) {
+            loaded.computeIfAbsent(Hashtag.keyOf(row.getName()), key -> new LinkedHashSet<>()).add(row.getPostId());
+        }
+
+        synchronized (pendingChanges) {
+            loaded.forEach((key, postIds) ->
+                    postings.put(key, PostingList.of(postIds.stream().mapToLong(Long::longValue).toArray())));
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            ready = true;
+        }
+
+        logger.info("해시태그 posting list 적재 완료: {}개", loaded.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 새로 작성되었거나 수정된 게시물을 각 해시태그 목록의 맨 앞으로 옮긴다.
+    public void touch(Long postId, Collection<String> names) {
+        apply(() -> names.forEach(name ->
+                postings.compute(Hashtag.keyOf(name), (key, list) -> (list == null ? PostingList.EMPTY : list).moveToFront(postId))));
+    }
+
+    public void remove(Long postId, Collection<String> names) {
+        apply(() -> names.forEach(name ->
+                postings.computeIfPresent(Hashtag.keyOf(name), (key, list) -> {
+                    PostingList updated = list.remove(postId);
+                    return updated.size() == 0 ? null : updated;
+                })));
+    }
+
+    public List<Long> findPostIds(String name, int offset, int limit) {
+        long[] postIds = postings.getOrDefault(Hashtag.keyOf(name), PostingList.EMPTY).slice(offset, limit);
+        return Arrays.stream(postIds).boxed().toList();
+    }
+
+    public int count(String name) {
+        return postings.getOrDefault(Hashtag.keyOf(name), PostingList.EMPTY).size();
+    }
+
+    private void apply(Runnable change) {
+        if (!ready) {
+            synchronized (pendingChanges) {
+                if (!ready) {
+                    pendingChanges.add(change);
+                    return;
+                }
+            }
+        }
+        change.run();
+    }
+}
@@ -0,0 +1,230 @@
+package com.ll.netmong.domain.hashtag.posting;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+// 최신순으로 정렬된 게시물 id 목록을 담는 불변 객체.
+// 가장 최신 게시물 몇 개는 압축하지 않은 head 배열에 두어 앞에 넣기가 작은 배열 복사 한 번으로 끝나고,
+// 나머지는 BLOCK_SIZE 개씩 블록으로 나눠 이전 값과의 차이(delta)를 varint 로 압축한다.
+// 블록마다 시작 위치(skip table)와 최소/최대 id 를 두어, 조회는 offset 이 속한 블록부터, 삭제는 id 가 있을 수 있는 블록만 푼다.
+// 수정된 게시물은 앞으로 옮겨지므로 id 가 단조롭지 않아 delta 는 zigzag 로 부호를 보존한다.
+public final class PostingList {
+    private static final int HEAD_CAPACITY = 64;
+    private static final int BLOCK_SIZE = 128;
+
+    public static final PostingList EMPTY = new PostingList(new long[0], new Block[0]);
+
+    private final long[] head;
+    private final Block[] blocks;
+    // blockStarts[i] = head 를 뺀 목록에서 blocks[i] 의 첫 id 가 몇 번째인지
+    private final int[] blockStarts;
+    private final int size;
+
+    private PostingList(long[] head, Block[] blocks) {
+        this.head = head;
+        this.blocks = blocks;
+        this.blockStarts = new int[blocks.length];
+
+        int position = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            blockStarts[i] = position;
+            position += blocks[i].count;
+        }
+        this.size = head.length + position;
+    }
+
+    public static PostingList of(long[] postIds) {
+        Block[] blocks = new Block[(postIds.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        for (int i = 0; i < blocks.length; i++) {
+            int from = i * BLOCK_SIZE;
+            blocks[i] = Block.encode(postIds, from, Math.min(from + BLOCK_SIZE, postIds.length));
+        }
+        return new PostingList(new long[0], blocks);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] toArray() {
+        return slice(0, size);
+    }
+
+    // offset 부터 limit 개만 복원한다. head 를 지난 부분은 offset 이 속한 블록부터 푼다.
+    public long[] slice(int offset, int limit) {
+        int to = (int) Math.min((long) offset + limit, size);
+        if (offset >= to) {
+            return new long[0];
+        }
+
+        long[] result = new long[to - offset];
+        int filled = 0;
+        if (offset < head.length) {
+            filled = Math.min(head.length, to) - offset;
+            System.arraycopy(head, offset, result, 0, filled);
+        }
+
+        int position = offset + filled - head.length;
+        for (int i = findBlock(position); filled < result.length; i++) {
+            filled += blocks[i].decodeInto(position - blockStarts[i], result, filled);
+            position = blockStarts[i] + blocks[i].count;
+        }
+        return result;
+    }
+
+    // postId 를 맨 앞(가장 최신)으로 옮긴다.
+    public PostingList moveToFront(long postId) {
+        return remove(postId).prepend(postId);
+    }
+
+    public PostingList remove(long postId) {
+        for (int i = 0; i < head.length; i++) {
+            if (head[i] == postId) {
+                long[] updated = new long[head.length - 1];
+                System.arraycopy(head, 0, updated, 0, i);
+                System.arraycopy(head, i + 1, updated, i, head.length - i - 1);
+                return new PostingList(updated, blocks);
+            }
+        }
+
+        for (int i = 0; i < blocks.length; i++) {
+            Block block = blocks[i];
+            if (postId < block.min || postId > block.max) {
+                continue;
+            }
+            Block updated = block.without(postId);
+            if (updated == block) {
+                continue;
+            }
+
+            // 비게 된 블록은 빼고, 나머지 블록은 다시 압축하지 않고 그대로 공유한다.
+            Block[] updatedBlocks;
+            if (updated == null) {
+                updatedBlocks = new Block[blocks.length - 1];
+                System.arraycopy(blocks, 0, updatedBlocks, 0, i);
+                System.arraycopy(blocks, i + 1, updatedBlocks, i, blocks.length - i - 1);
+            } else {
+                updatedBlocks = blocks.clone();
+                updatedBlocks[i] = updated;
+            }
+            return new PostingList(head, updatedBlocks);
+        }
+        return this;
+    }
+
+    public int sizeInBytes() {
+        int bytes = head.length * Long.BYTES;
+        for (Block block : blocks) {
+            bytes += block.encoded.length;
+        }
+        return bytes;
+    }
+
+    // head 가 차면 head 를 블록 하나로 압축해 맨 앞 블록으로 넘긴다.
+    private PostingList prepend(long postId) {
+        if (head.length < HEAD_CAPACITY) {
+            long[] updated = new long[head.length + 1];
+            updated[0] = postId;
+            System.arraycopy(head, 0, updated, 1, head.length);
+            return new PostingList(updated, blocks);
+        }
+
+        Block[] updatedBlocks = new Block[blocks.length + 1];
+        updatedBlocks[0] = Block.encode(head, 0, head.length);
+        System.arraycopy(blocks, 0, updatedBlocks, 1, blocks.length);
+        return new PostingList(new long[]{postId}, updatedBlocks);
+    }
+
+    // position 을 담고 있는 블록. blockStarts 에서 position 이하인 마지막 칸이다.
+    private int findBlock(int position) {
+        int index = Arrays.binarySearch(blockStarts, position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static final class Block {
+        private final byte[] encoded;
+        private final int count;
+        private final long min;
+        private final long max;
+
+        private Block(byte[] encoded, int count, long min, long max) {
+            this.encoded = encoded;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+        }
+
+        private static Block encode(long[] postIds, int from, int to) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((to - from) * 2);
+            long previous = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+
+            for (int i = from; i < to; i++) {
+                long delta = postIds[i] - previous;
+                writeVarLong(out, (delta << 1) ^ (delta >> 63));
+                previous = postIds[i];
+                min = Math.min(min, postIds[i]);
+                max = Math.max(max, postIds[i]);
+            }
+            return new Block(out.toByteArray(), to - from, min, max);
+        }
+
+        // 앞의 skip 개를 건너뛰고 dest 가 찰 때까지 복원한다. 복원한 개수를 반환한다.
+        private int decodeInto(int skip, long[] dest, int destFrom) {
+            int to = Math.min(count, skip + dest.length - destFrom);
+            long previous = 0;
+            int position = 0;
+
+            for (int i = 0; i < to; i++) {
+                long zigzag = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = encoded[position++];
+                    zigzag |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+
+                previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                if (i >= skip) {
+                    dest[destFrom + i - skip] = previous;
+                }
+            }
+            return to - skip;
+        }
+
+        // postId 가 없으면 this, 마지막 id 를 빼면 null
+        private Block without(long postId) {
+            long[] postIds = new long[count];
+            decodeInto(0, postIds, 0);
+
+            int index = -1;
+            for (int i = 0; i < count; i++) {
+                if (postIds[i] == postId) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return this;
+            }
+            if (count == 1) {
+                return null;
+            }
+
+            long[] updated = new long[count - 1];
+            System.arraycopy(postIds, 0, updated, 0, index);
+            System.arraycopy(postIds, index + 1, updated, index, count - index - 1);
+            return encode(updated, 0, updated.length);
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
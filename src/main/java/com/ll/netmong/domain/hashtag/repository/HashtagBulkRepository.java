@@ -0,0 +1,11 @@
+package com.ll.netmong.domain.hashtag.repository;
+
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HashtagBulkRepository {
+    // 없는 해시태그를 한 번에 추가하고, 추가된(또는 동시에 다른 요청이 추가한) 해시태그를 반환한다.
+    List<Hashtag> insertMissing(Collection<String> names);
+}
@@ -0,0 +1,56 @@
+package com.ll.netmong.domain.hashtag.repository;
+
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class HashtagBulkRepositoryImpl implements HashtagBulkRepository {
+    private static final String INSERT_SQL = "INSERT INTO hashtag (name, create_date, modify_date) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public HashtagBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 별도 트랜잭션에서 바로 커밋해 unique(name) 락을 게시물 트랜잭션이 끝날 때까지 붙잡지 않는다.
+    // 조회보다 insert 를 먼저 하므로, 중복으로 실패한 행도 이어지는 조회에서 보인다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Hashtag> insertMissing(Collection<String> names) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{name, now, now});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 해시태그를 만든 요청이 있으면 한 건씩 넣으면서 중복은 건너뛴다.
+            for (Object[] row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row);
+                } catch (DuplicateKeyException ignored) {
+                }
+            }
+        }
+
+        return entityManager.createQuery("SELECT h FROM Hashtag h WHERE h.name IN :names", Hashtag.class)
+                .setParameter("names", names)
+                .getResultList();
+    }
+}
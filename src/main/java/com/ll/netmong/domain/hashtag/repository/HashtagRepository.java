@@ -3,8 +3,12 @@ package com.ll.netmong.domain.hashtag.repository;
 import com.ll.netmong.domain.hashtag.entity.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
+public interface HashtagRepository extends JpaRepository<Hashtag, Long>, HashtagBulkRepository {
     Optional<Hashtag> findByName(String name);
+
+    List<Hashtag> findByNameIn(Collection<String> names);
 }
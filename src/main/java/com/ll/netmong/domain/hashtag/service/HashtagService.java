@@ -4,8 +4,10 @@ import com.ll.netmong.domain.hashtag.entity.Hashtag;
 import com.ll.netmong.domain.post.dto.request.PostRequest;
 import com.ll.netmong.domain.post.entity.Post;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagService {
     List<Hashtag> saveHashtag(PostRequest postRequest, Post post);
+    List<Hashtag> findOrCreateHashtags(Collection<String> names);
 }
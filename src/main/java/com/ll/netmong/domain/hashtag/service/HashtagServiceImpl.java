@@ -1,19 +1,27 @@
 package com.ll.netmong.domain.hashtag.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.hashtag.entity.Hashtag;
+import com.ll.netmong.domain.hashtag.posting.HashtagPostings;
 import com.ll.netmong.domain.hashtag.repository.HashtagRepository;
+import com.ll.netmong.domain.hashtag.trending.TrendingHashtags;
 import com.ll.netmong.domain.post.dto.request.PostRequest;
 import com.ll.netmong.domain.post.entity.Post;
-import com.ll.netmong.domain.postHashtag.entity.PostHashtag;
 import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,25 +29,59 @@ import java.util.regex.Pattern;
 public class HashtagServiceImpl implements HashtagService {
     private final HashtagRepository hashtagRepository;
     private final PostHashtagRepository postHashtagRepository;
+    private final HashtagPostings hashtagPostings;
+    private final TrendingHashtags trendingHashtags;
 
     private static final Pattern CONTENT_PATTERN = Pattern.compile("#(\\S+)");
 
     @Override
     @Transactional
     public List<Hashtag> saveHashtag(PostRequest postRequest, Post post) {
-        List<String> tags = parsingContent(postRequest.getContent());
-        List<Hashtag> hashtags = new ArrayList<>();
+        Set<String> tags = new LinkedHashSet<>(parsingContent(postRequest.getContent()));
+        List<Hashtag> hashtags = findOrCreateHashtags(tags);
 
-        for (String tag : tags) {
-            Hashtag hashtag = hashtagRepository.findByName(tag)
-                    .orElseGet(() -> hashtagRepository.save(new Hashtag(tag)));
+        postHashtagRepository.insertAll(post.getId(), hashtags);
 
-            hashtags.add(hashtag);
+        // post_hashtag 에 저장되는 이름(대소문자가 다를 수 있는 기존 해시태그 이름)으로 반영한다.
+        List<String> names = hashtags.stream().map(Hashtag::getName).toList();
+        AfterCommit.run(() -> {
+            hashtagPostings.touch(post.getId(), names);
+            trendingHashtags.record(names);
+        });
 
-            postHashtagRepository.save(new PostHashtag(post, hashtag));
+        return hashtags;
+    }
+
+    // 해시태그 수와 관계없이 조회 1번, 없는 해시태그 batch insert 1번으로 처리한다.
+    // DB 의 name 비교는 대소문자를 구분하지 않으므로(MariaDB 기본 collation) 이름도 같은 기준으로 비교한다.
+    @Override
+    @Transactional
+    public List<Hashtag> findOrCreateHashtags(Collection<String> names) {
+        if (names.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return hashtags;
+        Map<String, String> namesByKey = new LinkedHashMap<>();
+        names.forEach(name -> namesByKey.putIfAbsent(Hashtag.keyOf(name), name));
+
+        Map<Long, Hashtag> hashtagsById = new LinkedHashMap<>();
+        hashtagRepository.findByNameIn(namesByKey.values())
+                .forEach(hashtag -> hashtagsById.putIfAbsent(hashtag.getId(), hashtag));
+        Set<String> foundKeys = hashtagsById.values().stream()
+                .map(hashtag -> Hashtag.keyOf(hashtag.getName()))
+                .collect(Collectors.toSet());
+
+        List<String> missingNames = namesByKey.entrySet().stream()
+                .filter(entry -> !foundKeys.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (!missingNames.isEmpty()) {
+            // 동시에 다른 요청이 대소문자만 다른 이름으로 만든 해시태그도 함께 조회될 수 있어 id 로 한 번 더 거른다.
+            hashtagRepository.insertMissing(missingNames)
+                    .forEach(hashtag -> hashtagsById.putIfAbsent(hashtag.getId(), hashtag));
+        }
+
+        return new ArrayList<>(hashtagsById.values());
     }
 
     public List<String> parsingContent(String content) {
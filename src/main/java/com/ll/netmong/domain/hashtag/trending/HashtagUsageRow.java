@@ -0,0 +1,9 @@
+package com.ll.netmong.domain.hashtag.trending;
+
+import java.time.LocalDateTime;
+
+public interface HashtagUsageRow {
+    String getName();
+
+    LocalDateTime getCreateDate();
+}
@@ -0,0 +1,155 @@
+package com.ll.netmong.domain.hashtag.trending;
+
+import com.ll.netmong.domain.hashtag.dto.response.TrendingHashtagResponse;
+import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+// 최근 window-minutes 분 동안 사용된 해시태그를 1분 단위 버킷으로 세고, 오래된 사용일수록 낮은 가중치를 준다.
+// 점수는 매 분 기준 시각(epoch)에 맞춰 정규화하므로 시간이 흘러도 순위는 사용/만료 시에만 바뀐다.
+// 그래서 상위 K 개를 쓰기 시점에 갱신해 두고 조회는 스냅샷만 반환한다.
+@Component
+public class TrendingHashtags {
+    private static final Logger logger = LoggerFactory.getLogger(TrendingHashtags.class);
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private static final Comparator<Score> RANKING = Comparator
+            .comparingDouble((Score score) -> score.normalized).reversed()
+            .thenComparing(score -> score.name);
+
+    private final PostHashtagRepository postHashtagRepository;
+    private final Clock clock;
+    private final int windowMinutes;
+    private final double decayPerMinute;
+    private final int topK;
+
+    // 분(minute) -> (해시태그 -> 사용 횟수)
+    private final NavigableMap<Long, Map<String, Integer>> buckets = new TreeMap<>();
+    private final Map<String, Score> scores = new HashMap<>();
+    private final TreeSet<Score> ranking = new TreeSet<>(RANKING);
+    private long epochMinute;
+    private volatile List<TrendingHashtagResponse> top = List.of();
+
+    @Autowired
+    public TrendingHashtags(PostHashtagRepository postHashtagRepository,
+                            @Value("${custom.hashtag.trending.window-minutes:60}") int windowMinutes,
+                            @Value("${custom.hashtag.trending.half-life-minutes:30}") int halfLifeMinutes,
+                            @Value("${custom.hashtag.trending.top-k:20}") int topK) {
+        this(postHashtagRepository, Clock.systemDefaultZone(), windowMinutes, halfLifeMinutes, topK);
+    }
+
+    TrendingHashtags(PostHashtagRepository postHashtagRepository, Clock clock, int windowMinutes, int halfLifeMinutes, int topK) {
+        this.postHashtagRepository = postHashtagRepository;
+        this.clock = clock;
+        this.windowMinutes = windowMinutes;
+        this.decayPerMinute = Math.pow(0.5, 1.0 / halfLifeMinutes);
+        this.topK = topK;
+        this.epochMinute = currentMinute();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long now = currentMinute();
+        LocalDateTime since = LocalDateTime.ofInstant(clock.instant().minusMillis(windowMinutes * MILLIS_PER_MINUTE), ZoneId.systemDefault());
+        List<HashtagUsageRow> rows = postHashtagRepository.findHashtagUsagesSince(since);
+
+        synchronized (this) {
+            for (HashtagUsageRow row : rows) {
+                long minute = row.getCreateDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / MILLIS_PER_MINUTE;
+                buckets.computeIfAbsent(Math.min(minute, now), key -> new HashMap<>()).merge(row.getName(), 1, Integer::sum);
+            }
+            recompute(now);
+        }
+
+        logger.info("인기 해시태그 적재 완료: 최근 {}분, {}건", windowMinutes, rows.size());
+    }
+
+    public synchronized void record(Collection<String> names) {
+        long minute = currentMinute();
+        Map<String, Integer> bucket = buckets.computeIfAbsent(minute, key -> new HashMap<>());
+        double weight = weight(minute);
+
+        for (String name : names) {
+            bucket.merge(name, 1, Integer::sum);
+
+            Score score = scores.computeIfAbsent(name, Score::new);
+            ranking.remove(score);
+            score.count++;
+            score.normalized += weight;
+            ranking.add(score);
+        }
+        publishTop();
+    }
+
+    public List<TrendingHashtagResponse> getTop(int size) {
+        List<TrendingHashtagResponse> snapshot = top;
+        return snapshot.subList(0, Math.min(Math.max(size, 0), snapshot.size()));
+    }
+
+    // 매 분 window 밖으로 밀려난 버킷을 버리고, 기준 시각을 현재 분으로 옮겨 점수를 다시 계산한다.
+    @Scheduled(fixedRate = MILLIS_PER_MINUTE)
+    public synchronized void rollover() {
+        recompute(currentMinute());
+    }
+
+    private void recompute(long now) {
+        buckets.headMap(now - windowMinutes, true).clear();
+        epochMinute = now;
+
+        scores.clear();
+        ranking.clear();
+        buckets.forEach((minute, bucket) -> {
+            double weight = weight(minute);
+            bucket.forEach((name, count) -> {
+                Score score = scores.computeIfAbsent(name, Score::new);
+                score.count += count;
+                score.normalized += weight * count;
+            });
+        });
+        ranking.addAll(scores.values());
+        publishTop();
+    }
+
+    private void publishTop() {
+        double scale = Math.pow(decayPerMinute, currentMinute() - epochMinute);
+        List<TrendingHashtagResponse> snapshot = new ArrayList<>(topK);
+
+        for (Score score : ranking) {
+            if (snapshot.size() == topK) {
+                break;
+            }
+            snapshot.add(new TrendingHashtagResponse(score.name, score.count, score.normalized * scale));
+        }
+        top = List.copyOf(snapshot);
+    }
+
+    // epoch 분 기준 가중치 (epoch 이후의 사용은 1보다 크다)
+    private double weight(long minute) {
+        return Math.pow(decayPerMinute, epochMinute - minute);
+    }
+
+    private long currentMinute() {
+        return clock.millis() / MILLIS_PER_MINUTE;
+    }
+
+    private static class Score {
+        private final String name;
+        private long count;
+        private double normalized;
+
+        private Score(String name) {
+            this.name = name;
+        }
+    }
+}
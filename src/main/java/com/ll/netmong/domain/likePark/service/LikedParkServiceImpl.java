@@ -1,10 +1,12 @@
 package com.ll.netmong.domain.likePark.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.likePark.entity.LikedPark;
 import com.ll.netmong.domain.likePark.repository.LikedParkRepository;
 import com.ll.netmong.domain.likedPost.exception.DuplicateLikeException;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.domain.park.catalog.ParkCatalog;
 import com.ll.netmong.domain.park.entity.Park;
 import com.ll.netmong.domain.park.repository.ParkRepository;
 import com.ll.netmong.domain.postComment.exception.DataNotFoundException;
@@ -23,6 +25,7 @@ public class LikedParkServiceImpl implements LikedParkService {
     private final ParkRepository parkRepository;
     private final MemberRepository memberRepository;
     private final LikedParkRepository likedParkRepository;
+    private final ParkCatalog parkCatalog;
 
     @Override
     @Transactional
@@ -40,6 +43,7 @@ public class LikedParkServiceImpl implements LikedParkService {
 
             park.addLikeToPark(like);
             likedParkRepository.save(like);
+            AfterCommit.run(parkCatalog::changed);
         } catch (OptimisticLockingFailureException e) {
             throw new OptimisticLockingFailureException("다른 사용자가 동시에 좋아요를 눌렀습니다. 다시 시도해주세요.");
         }
@@ -77,6 +81,7 @@ public class LikedParkServiceImpl implements LikedParkService {
 
             park.removeLikeFromPark(likedPark);
             likedParkRepository.delete(likedPark);
+            AfterCommit.run(parkCatalog::changed);
         } catch (OptimisticLockingFailureException e) {
             throw new OptimisticLockingFailureException("다른 사용자가 동시에 좋아요를 삭제했습니다. 다시 시도해주세요.");
         }
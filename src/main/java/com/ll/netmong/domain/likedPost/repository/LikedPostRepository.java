@@ -4,8 +4,12 @@ import com.ll.netmong.domain.likedPost.entity.LikedPost;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.post.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,11 @@ public interface LikedPostRepository extends JpaRepository<LikedPost, Long> {
     Long countLikesByPost(Post post);
 
     Optional<LikedPost> findByMemberAndPost(Member member, Post post);
+
+    @Query("SELECT lp.post.id FROM LikedPost lp WHERE lp.member.email = :email")
+    List<Long> findPostIdsByEmail(@Param("email") String email);
+
+    // 한 페이지의 게시물 중 회원이 좋아요를 누른 게시물 id 만 한 번의 IN 쿼리로 조회
+    @Query("SELECT lp.post.id FROM LikedPost lp WHERE lp.member.email = :email AND lp.post.id IN :postIds")
+    List<Long> findLikedPostIdsByEmailAndPostIdIn(@Param("email") String email, @Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,168 @@
+package com.ll.netmong.domain.likedPost.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.netmong.common.CompressedBitmap;
+import com.ll.netmong.domain.likedPost.repository.LikedPostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 회원(email)별로 좋아요한 게시물 id 를 압축 비트맵으로 보관해 좋아요 여부를 메모리에서 판단한다.
+// Caffeine 의 무게 기반 제거(W-TinyLFU)로 전체 메모리 사용량은 max-bytes 를 넘지 않는다.
+// 잠금은 회원 단위라 서로 다른 회원의 조회·변경은 경합하지 않고, 같은 회원의 동시 캐시 미스는 한 번만 적재한다.
+@Component
+public class LikedPostCache {
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final LikedPostRepository likedPostRepository;
+    private final TransactionTemplate loadTransaction;
+    private final long maxEntryBytes;
+
+    private final Cache<String, Entry> entries;
+    private final Map<String, LoadTicket> loading = new ConcurrentHashMap<>();
+
+    public LikedPostCache(LikedPostRepository likedPostRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${custom.like.bitmap-cache.max-bytes:67108864}") long maxBytes) {
+        this.likedPostRepository = likedPostRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        // 호출한 트랜잭션보다 늦게 커밋된 좋아요까지 읽도록 새 트랜잭션에서 적재한다.
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.maxEntryBytes = Math.max(maxBytes / 8, 1);
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String email, Entry entry) -> (int) entry.weight)
+                .build();
+    }
+
+    public boolean isLiked(String email, Long postId) {
+        return findLikedPostIds(email, List.of(postId)).contains(postId);
+    }
+
+    public Set<Long> findLikedPostIds(String email, Collection<Long> postIds) {
+        Entry entry = getOrLoad(email);
+
+        if (entry == null || entry.bitmap == null) {
+            // 적재 중 변경이 생겼거나 좋아요가 너무 많아 캐시하지 않는 회원은 IN 쿼리로 조회한다.
+            return new HashSet<>(likedPostRepository.findLikedPostIdsByEmailAndPostIdIn(email, postIds));
+        }
+
+        Set<Long> likedPostIds = new HashSet<>();
+        synchronized (entry) {
+            for (Long postId : postIds) {
+                if (entry.bitmap.contains(postId)) {
+                    likedPostIds.add(postId);
+                }
+            }
+        }
+        return likedPostIds;
+    }
+
+    // 좋아요 트랜잭션이 커밋된 뒤에 호출한다.
+    public void added(String email, Long postId) {
+        update(email, bitmap -> bitmap.add(postId));
+    }
+
+    public void removed(String email, Long postId) {
+        update(email, bitmap -> bitmap.remove(postId));
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    public long sizeInBytes() {
+        entries.cleanUp();
+        return entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private void update(String email, Consumer<CompressedBitmap> change) {
+        // 적재 중인 스냅샷에는 이 변경이 빠져 있을 수 있으므로 캐시에 남지 않게 한다.
+        LoadTicket ticket = loading.get(email);
+        if (ticket != null) {
+            ticket.stale = true;
+        }
+
+        // 같은 인스턴스를 돌려주면 Caffeine 이 무게를 다시 잰다. 한 회원 몫의 한도를 넘으면 캐시에서 뺀다.
+        entries.asMap().computeIfPresent(email, (key, entry) -> {
+            if (entry.bitmap == null) {
+                return entry;
+            }
+            synchronized (entry) {
+                change.accept(entry.bitmap);
+                entry.weight = ENTRY_OVERHEAD_BYTES + entry.bitmap.sizeInBytes();
+            }
+            return entry.weight > maxEntryBytes ? null : entry;
+        });
+    }
+
+    private Entry getOrLoad(String email) {
+        Entry entry = entries.getIfPresent(email);
+        if (entry != null) {
+            return entry;
+        }
+
+        LoadTicket[] created = new LoadTicket[1];
+        try {
+            entry = entries.get(email, key -> {
+                LoadTicket ticket = new LoadTicket();
+                created[0] = ticket;
+                loading.put(key, ticket);
+                Entry loaded = load(key);
+                return ticket.stale ? null : loaded;
+            });
+        } finally {
+            LoadTicket ticket = created[0];
+            if (ticket != null) {
+                // 캐시에 들어간 뒤에야 표를 치우므로, 그 사이의 변경은 표로 감지해 방금 넣은 스냅샷을 버린다.
+                loading.remove(email, ticket);
+                if (ticket.stale && entry != null) {
+                    entries.asMap().remove(email, entry);
+                    entry = null;
+                }
+            }
+        }
+        return entry;
+    }
+
+    private Entry load(String email) {
+        List<Long> postIds = loadTransaction.execute(status -> likedPostRepository.findPostIdsByEmail(email));
+
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (Long postId : postIds) {
+            bitmap.add(postId);
+            if (bitmap.sizeInBytes() > maxEntryBytes) {
+                return new Entry(null, ENTRY_OVERHEAD_BYTES);
+            }
+        }
+        return new Entry(bitmap, ENTRY_OVERHEAD_BYTES + bitmap.sizeInBytes());
+    }
+
+    // 비트맵 읽기·쓰기는 항목 자체를 잠그고 한다.
+    private static class Entry {
+        private final CompressedBitmap bitmap;
+        private volatile long weight;
+
+        private Entry(CompressedBitmap bitmap, long weight) {
+            this.bitmap = bitmap;
+            this.weight = weight;
+        }
+    }
+
+    private static class LoadTicket {
+        private volatile boolean stale = false;
+    }
+}
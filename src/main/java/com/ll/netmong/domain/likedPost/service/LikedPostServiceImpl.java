@@ -1,5 +1,6 @@
 package com.ll.netmong.domain.likedPost.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.likedPost.entity.LikedPost;
 import com.ll.netmong.domain.likedPost.exception.DuplicateLikeException;
 import com.ll.netmong.domain.likedPost.repository.LikedPostRepository;
@@ -22,6 +23,8 @@ public class LikedPostServiceImpl implements LikedPostService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final LikedPostRepository likedPostRepository;
+    private final PostLikeCountBuffer postLikeCountBuffer;
+    private final LikedPostCache likedPostCache;
 
     @Override
     @Transactional
@@ -42,6 +45,10 @@ public class LikedPostServiceImpl implements LikedPostService {
 
         post.addLike(like);
         likedPostRepository.save(like);
+        AfterCommit.run(() -> {
+            postLikeCountBuffer.record(post.getId(), 1L);
+            likedPostCache.added(userDetails.getUsername(), post.getId());
+        });
     }
 
     @Override
@@ -55,6 +62,10 @@ public class LikedPostServiceImpl implements LikedPostService {
 
         post.removeLike(likedPost);
         likedPostRepository.delete(likedPost);
+        AfterCommit.run(() -> {
+            postLikeCountBuffer.record(post.getId(), -1L);
+            likedPostCache.removed(userDetails.getUsername(), post.getId());
+        });
     }
 
     @Override
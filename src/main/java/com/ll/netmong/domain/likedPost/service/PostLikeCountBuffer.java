@@ -0,0 +1,63 @@
+package com.ll.netmong.domain.likedPost.service;
+
+import com.ll.netmong.domain.post.cache.PostDetailCache;
+import com.ll.netmong.domain.post.repository.PostCountUpdater;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시물 좋아요 수 변화량을 메모리에 모았다가 주기적으로 post.likes_count 에 한 번에 반영한다.
+// 좋아요 트랜잭션이 같은 post 행의 락을 기다리지 않도록 하기 위함이다.
+@Component
+@RequiredArgsConstructor
+public class PostLikeCountBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(PostLikeCountBuffer.class);
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final PostCountUpdater postCountUpdater;
+    private final PostDetailCache postDetailCache;
+
+    // merge 는 키 단위(해시 버킷)로만 잠기므로 서로 다른 게시물의 좋아요는 경합하지 않는다.
+    private final Map<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    public void record(Long postId, long delta) {
+        pendingDeltas.merge(postId, delta, Long::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.like.flush-interval-ms:1000}")
+    public void flush() {
+        // remove 로 꺼낸 값 이후의 증감은 새 값으로 쌓이므로 유실되지 않는다.
+        List<Map.Entry<Long, Long>> drained = new ArrayList<>();
+        for (Long postId : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(postId);
+            if (delta != null && delta != 0L) {
+                drained.add(Map.entry(postId, delta));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = drained.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, drained.size()));
+            try {
+                postCountUpdater.addDeltas(PostCountUpdater.Counter.LIKES, chunk);
+                postDetailCache.invalidateAll(chunk.stream().map(Map.Entry::getKey).toList());
+            } catch (RuntimeException e) {
+                // 반영에 실패한 변화량은 다음 주기에 다시 시도한다.
+                chunk.forEach(entry -> record(entry.getKey(), entry.getValue()));
+                logger.warn("좋아요 수 반영 실패: {}건, 다음 주기에 재시도합니다.", chunk.size(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
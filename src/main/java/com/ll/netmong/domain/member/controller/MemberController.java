@@ -1,6 +1,7 @@
 package com.ll.netmong.domain.member.controller;
 
 import com.ll.netmong.base.jwt.TokenDto;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenService;
 import com.ll.netmong.common.RsData;
 import com.ll.netmong.domain.cart.service.CartService;
 import com.ll.netmong.domain.follow.dto.FollowCountDto;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/members")
@@ -27,6 +29,7 @@ public class MemberController {
     private final MemberService memberService;
     private final CartService cartService;
     private final FollowService followService;
+    private final RefreshTokenService refreshTokenService;
 
     @GetMapping("/find")
     public Member findMember() {
@@ -63,18 +66,29 @@ public class MemberController {
     }
 
     @PostMapping("/login")
-    public RsData<TokenDto> login(@Valid @RequestBody LoginDto loginDto) throws Exception {
+    public CompletableFuture<RsData<TokenDto>> login(@Valid @RequestBody LoginDto loginDto) throws Exception {
 
-        TokenDto tokenDto = memberService.login(loginDto);
+        return memberService.login(loginDto).thenApply(RsData::successOf);
+    }
 
-        return RsData.successOf(tokenDto);
+    // 리프레시 토큰은 한 번만 쓸 수 있으므로 응답으로 받은 새 토큰 쌍으로 교체해야 한다.
+    @PostMapping("/refresh")
+    public RsData<TokenDto> refresh(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+        return RsData.successOf(refreshTokenService.rotate(refreshTokenRequest.getRefresh_token()));
     }
 
     @PostMapping("/logout")
-    public RsData logout() {
+    public RsData logout(@RequestBody RefreshTokenRequest refreshTokenRequest, @AuthenticationPrincipal UserDetails userDetails) {
+        refreshTokenService.revoke(refreshTokenRequest.getRefresh_token(), userDetails.getUsername());
         return RsData.successOf("logout success");
     }
 
+    @PostMapping("/logout-all")
+    public RsData logoutAll(@AuthenticationPrincipal UserDetails userDetails) {
+        int revoked = refreshTokenService.revokeAll(userDetails.getUsername());
+        return RsData.successOf(revoked + "개 기기에서 로그아웃되었습니다.");
+    }
+
     @PatchMapping("/change-password")
     public RsData<String> changePassword(@Valid @RequestBody ChangePasswordRequest changePasswordRequest, @AuthenticationPrincipal UserDetails userDetails) throws Exception {
         String username = memberService.changePassword(userDetails, changePasswordRequest.getOldPassword(),
@@ -124,8 +138,7 @@ public class MemberController {
         FollowCountDto followCountDto = followService.countFollowerAndFollowee(pathMember);
         Boolean following = followService.isFollowing(loginMember, pathMember);
 
-        Long postCount = memberService.countPostsByUsername(username);
-        return RsData.successOf(new MemberDetailDto(following, followCountDto.getFollowerCount(), followCountDto.getFolloweeCount(), postCount));
+        return RsData.successOf(new MemberDetailDto(following, followCountDto.getFollowerCount(), followCountDto.getFolloweeCount(), pathMember.getPostsCount()));
     }
 
     @GetMapping("/user")
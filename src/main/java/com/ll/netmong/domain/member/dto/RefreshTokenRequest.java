@@ -0,0 +1,12 @@
+package com.ll.netmong.domain.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRequest {
+    String refresh_token;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -37,6 +38,22 @@ public class Member extends BaseEntity {
 
     private String realName;
 
+    // 프로필 조회 시 집계 쿼리를 없애기 위한 비정규화 카운터.
+    // 동시 갱신을 잃지 않도록 MemberRepository 의 증감 쿼리로만 반영하고 엔티티 변경 감지로는 갱신하지 않는다.
+    // 팔로우하는 회원 수
+    @Builder.Default
+    @Column(name = "following_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long followingCount = 0L;
+
+    // 나를 팔로우하는 회원 수
+    @Builder.Default
+    @Column(name = "follower_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long followerCount = 0L;
+
+    @Builder.Default
+    @Column(name = "posts_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long postsCount = 0L;
+
     // 스프링 시큐리티 규격
     public List<? extends GrantedAuthority> getGrantedAuthorities() {
         List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
@@ -63,4 +80,17 @@ public class Member extends BaseEntity {
     public void changeUsername(String newUsername) {
         this.username = newUsername;
     }
+
+    // 증감 쿼리를 실행한 뒤 같은 트랜잭션에서 읽는 값도 맞추기 위해 호출한다.
+    public void addFollowingCount(long delta) {
+        this.followingCount += delta;
+    }
+
+    public void addFollowerCount(long delta) {
+        this.followerCount += delta;
+    }
+
+    public void addPostsCount(long delta) {
+        this.postsCount += delta;
+    }
 }
\ No newline at end of file
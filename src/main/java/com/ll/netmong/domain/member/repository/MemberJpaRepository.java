@@ -2,8 +2,10 @@ package com.ll.netmong.domain.member.repository;
 
 import com.ll.netmong.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,8 +14,31 @@ public interface MemberJpaRepository extends JpaRepository<Member, Long> {
 
     Boolean existsByUsername(String admin);
 
-    @Query("select count(p) from Post p where p.member= (select m from Member m where m.username = :username)")
-    Long countPostsByMemberUsername(@Param("username") String username);
-
     Optional<Member> findByEmail(String email);
+
+    @Modifying
+    @Query(value = "UPDATE member SET following_count = following_count + :delta WHERE id = :memberId", nativeQuery = true)
+    void addFollowingCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE member SET follower_count = follower_count + :delta WHERE id = :memberId", nativeQuery = true)
+    void addFollowerCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE member SET posts_count = posts_count + :delta WHERE id = :memberId", nativeQuery = true)
+    void addPostsCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE member SET password = :newPassword WHERE id = :memberId AND password = :currentPassword", nativeQuery = true)
+    int updatePasswordIfUnchanged(@Param("memberId") Long memberId, @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE member m SET " +
+            "following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_id = m.id), " +
+            "follower_count = (SELECT COUNT(*) FROM follow f WHERE f.followee_id = m.id), " +
+            "posts_count = (SELECT COUNT(*) FROM post p WHERE p.member_id = m.id AND p.status = 'Y')", nativeQuery = true)
+    int reconcileCounts();
 }
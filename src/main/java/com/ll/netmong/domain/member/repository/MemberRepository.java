@@ -14,7 +14,17 @@ public interface MemberRepository {
 
     Boolean existsByUsername(String admin);
 
-    Long countPostsByMemberUsername(String username);
-
     Optional<Member> findByEmail(String email);
+
+    void addFollowingCount(Long memberId, long delta);
+
+    void addFollowerCount(Long memberId, long delta);
+
+    void addPostsCount(Long memberId, long delta);
+
+    // 저장된 해시가 그대로일 때만 바꾼다. 그 사이 비밀번호가 변경되었으면 0 을 반환한다.
+    int updatePasswordIfUnchanged(Long memberId, String currentPassword, String newPassword);
+
+    // 카운터 컬럼을 follow / post 테이블 기준으로 다시 맞춘다.
+    int reconcileCounts();
 }
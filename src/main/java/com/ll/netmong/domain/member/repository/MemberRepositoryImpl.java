@@ -1,16 +1,31 @@
 package com.ll.netmong.domain.member.repository;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ll.netmong.domain.member.entity.Member;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 @Repository
-@RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepository {
     private final MemberJpaRepository memberJpaRepository;
 
+    // email / username -> 회원 id.
+    // 엔티티 대신 id 만 캐시하고 findById 로 읽으므로, 같은 요청 안의 반복 조회는 영속성 컨텍스트에서 끝나고
+    // 요청 사이에는 유니크 인덱스 조회 대신 PK 조회가 된다. 읽은 엔티티의 키가 다르면(닉네임 변경 등) 캐시를 버린다.
+    private final Cache<String, Long> idsByEmail;
+    private final Cache<String, Long> idsByUsername;
+
+    public MemberRepositoryImpl(MemberJpaRepository memberJpaRepository,
+                                @Value("${custom.member.identity-cache.max-size:100000}") long maxSize) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.idsByEmail = Caffeine.newBuilder().maximumSize(maxSize).build();
+        this.idsByUsername = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
     @Override
     public Optional<Member> findById(long id) {
         return memberJpaRepository.findById(id);
@@ -18,12 +33,15 @@ public class MemberRepositoryImpl implements MemberRepository {
 
     @Override
     public Member save(Member member) {
-        return memberJpaRepository.save(member);
+        // 닉네임 / 비밀번호 변경 시 현재 키를 비운다. 이전 닉네임 키는 다음 조회 때 키 검증에서 버려진다.
+        Member saved = memberJpaRepository.save(member);
+        forget(saved);
+        return saved;
     }
 
     @Override
     public Optional<Member> findByUsername(String username) {
-        return memberJpaRepository.findByUsername(username);
+        return findByKey(idsByUsername, username, memberJpaRepository::findByUsername, Member::getUsername);
     }
 
     @Override
@@ -32,12 +50,90 @@ public class MemberRepositoryImpl implements MemberRepository {
     }
 
     @Override
-    public Long countPostsByMemberUsername(String username) {
-        return memberJpaRepository.countPostsByMemberUsername(username);
+    public Optional<Member> findByEmail(String email) {
+        return findByKey(idsByEmail, email, memberJpaRepository::findByEmail, Member::getEmail);
     }
 
     @Override
-    public Optional<Member> findByEmail(String email) {
-        return memberJpaRepository.findByEmail(email);
+    public void addFollowingCount(Long memberId, long delta) {
+        memberJpaRepository.addFollowingCount(memberId, delta);
+    }
+
+    @Override
+    public void addFollowerCount(Long memberId, long delta) {
+        memberJpaRepository.addFollowerCount(memberId, delta);
+    }
+
+    @Override
+    public void addPostsCount(Long memberId, long delta) {
+        memberJpaRepository.addPostsCount(memberId, delta);
+    }
+
+    @Override
+    public int updatePasswordIfUnchanged(Long memberId, String currentPassword, String newPassword) {
+        return memberJpaRepository.updatePasswordIfUnchanged(memberId, currentPassword, newPassword);
+    }
+
+    @Override
+    public int reconcileCounts() {
+        return memberJpaRepository.reconcileCounts();
+    }
+
+    private Optional<Member> findByKey(Cache<String, Long> ids, String key,
+                                       Function<String, Optional<Member>> query, Function<Member, String> keyOf) {
+        if (key == null) {
+            return query.apply(null);
+        }
+
+        // 같은 키의 동시 캐시 미스는 한 스레드만 유니크 키로 쿼리하고 나머지는 그 결과(id)를 기다린다.
+        // 적재한 엔티티는 적재한 스레드의 영속성 컨텍스트에 속해 다른 요청과 나눌 수 없으므로,
+        // 기다린 스레드는 각자 findById 로 읽는다. 동시 미스 N 건은 유니크 키 조회 1 번과 PK 조회 N-1 번이 된다.
+        // (PK 조회는 자기 영속성 컨텍스트에 이미 있으면 쿼리 없이 끝난다)
+        Member[] loaded = new Member[1];
+        Long id = ids.get(key, missed -> query.apply(missed)
+                .map(member -> {
+                    loaded[0] = member;
+                    return member.getId();
+                })
+                .orElse(null));
+
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (loaded[0] != null) {
+            remember(loaded[0]);
+            return Optional.of(loaded[0]);
+        }
+
+        Optional<Member> member = memberJpaRepository.findById(id).filter(found -> key.equals(keyOf.apply(found)));
+        if (member.isPresent()) {
+            return member;
+        }
+
+        ids.invalidate(key);
+        Optional<Member> reloaded = query.apply(key);
+        reloaded.ifPresent(this::remember);
+        return reloaded;
+    }
+
+    private void remember(Member member) {
+        if (member.getId() == null) {
+            return;
+        }
+        if (member.getEmail() != null) {
+            idsByEmail.put(member.getEmail(), member.getId());
+        }
+        if (member.getUsername() != null) {
+            idsByUsername.put(member.getUsername(), member.getId());
+        }
+    }
+
+    private void forget(Member member) {
+        if (member.getEmail() != null) {
+            idsByEmail.invalidate(member.getEmail());
+        }
+        if (member.getUsername() != null) {
+            idsByUsername.invalidate(member.getUsername());
+        }
     }
 }
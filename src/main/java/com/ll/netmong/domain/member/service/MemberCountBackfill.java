@@ -0,0 +1,23 @@
+package com.ll.netmong.domain.member.service;
+
+import com.ll.netmong.common.OneTimeBackfill;
+import com.ll.netmong.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+// 팔로우/팔로워/게시물 수 컬럼은 0 으로 추가되므로, 컬럼이 생기기 전에 쌓인 follow, post 행으로 한 번 채운다.
+// 웹 서버가 뜨기 전에 실행되어 이 인스턴스의 요청이 보정과 겹치지 않는다.
+@Component
+@RequiredArgsConstructor
+public class MemberCountBackfill implements SmartInitializingSingleton {
+    private static final String NAME = "member-counts";
+
+    private final OneTimeBackfill oneTimeBackfill;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        oneTimeBackfill.runOnce(NAME, memberRepository::reconcileCounts);
+    }
+}
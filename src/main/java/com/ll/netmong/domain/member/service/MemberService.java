@@ -2,6 +2,7 @@ package com.ll.netmong.domain.member.service;
 
 import com.ll.netmong.base.jwt.TokenDto;
 import com.ll.netmong.base.jwt.TokenService;
+import com.ll.netmong.base.security.password.PasswordHashingExecutor;
 import com.ll.netmong.domain.member.dto.EmailRequest;
 import com.ll.netmong.domain.member.dto.JoinRequest;
 import com.ll.netmong.domain.member.dto.LoginDto;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.security.auth.login.AccountNotFoundException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Builder
@@ -30,12 +32,13 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public Member findById(long id) {
         return memberRepository.findById(id).orElseThrow();
     }
 
-    @Transactional
+    // 해시는 오래 걸리므로 트랜잭션(DB 커넥션)을 잡기 전에 끝내고, 저장만 save 의 트랜잭션에서 한다.
     public Member createMember(JoinRequest joinRequest) {
         Member member = Member.builder().username(joinRequest.getUsername())
                 .password(joinRequest.getPassword())
@@ -45,7 +48,10 @@ public class MemberService {
                 .authLevel(AuthLevel.MEMBER)
                 .build();
 
-        member.encryptPassword(passwordEncoder);
+        passwordHashingExecutor.call(() -> {
+            member.encryptPassword(passwordEncoder);
+            return member;
+        });
 
         return memberRepository.save(member);
     }
@@ -59,17 +65,24 @@ public class MemberService {
         return memberRepository.findByEmail(emailRequest.getEmail()).isPresent();
     }
 
-    public TokenDto login(LoginDto loginDto) throws Exception {
+    // 비밀번호 검증은 해시 전용 풀에서 한 번만 하고, 요청 스레드는 결과를 기다리지 않고 반환된다.
+    // 저장된 해시가 현재 인코딩 설정보다 약하면 같은 작업에서 다시 해시해 저장한다.
+    public CompletableFuture<TokenDto> login(LoginDto loginDto) throws Exception {
 
         Member member = memberRepository.findByEmail(loginDto.getEmail())
                 .orElseThrow(() -> new AccountNotFoundException("아이디/비밀번호가 잘못되었습니다."));
-
-        boolean matches = passwordEncoder.matches(loginDto.getPassword(), member.getPassword());
-        if (!matches) {
-            throw new NotMatchPasswordException("잘못된 비밀번호입니다.");
-        }
-
-        return tokenService.provideTokenWithLoginDto(loginDto);
+        String storedPassword = member.getPassword();
+
+        return passwordHashingExecutor.submit(() -> {
+            if (!passwordEncoder.matches(loginDto.getPassword(), storedPassword)) {
+                throw new NotMatchPasswordException("잘못된 비밀번호입니다.");
+            }
+            if (passwordEncoder.upgradeEncoding(storedPassword)) {
+                memberRepository.updatePasswordIfUnchanged(member.getId(), storedPassword,
+                        passwordEncoder.encode(loginDto.getPassword()));
+            }
+            return tokenService.provideTokenForMember(member);
+        });
     }
 
     public Member findByEmail(String email) throws Exception {
@@ -83,20 +96,19 @@ public class MemberService {
                 .orElseThrow(() -> new AccountNotFoundException("User not Found"));
     }
 
-    @Transactional
+    // 검증과 해시는 트랜잭션 밖에서 하고, 그 사이 비밀번호가 바뀌지 않았을 때만 한 번의 UPDATE 로 저장한다.
     public String changePassword(UserDetails userDetails, String oldPassword, String newPassword) throws Exception {
 
         Member member = findByEmail(userDetails.getUsername());
+        String storedPassword = member.getPassword();
 
-        if (passwordEncoder.matches(oldPassword, member.getPassword())) {
-            member.changePassword(newPassword);
-            member.encryptPassword(passwordEncoder);
+        String encodedPassword = passwordHashingExecutor.call(() ->
+                passwordEncoder.matches(oldPassword, storedPassword) ? passwordEncoder.encode(newPassword) : null);
+        if (encodedPassword != null
+                && memberRepository.updatePasswordIfUnchanged(member.getId(), storedPassword, encodedPassword) == 0) {
+            throw new NotMatchPasswordException("잘못된 비밀번호입니다.");
         }
-        return memberRepository.save(member).getUsername();
-    }
-
-    public Long countPostsByUsername(String username) {
-        return memberRepository.countPostsByMemberUsername(username);
+        return member.getUsername();
     }
 
     @Transactional
@@ -0,0 +1,74 @@
+package com.ll.netmong.domain.park.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.netmong.domain.park.repository.ParkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 공원 목록은 공공 API 적재 때만 바뀌는 참조 데이터이므로 조회 API 는 메모리의 스냅샷으로 답한다.
+// 다시 적재할 때는 새 스냅샷을 통째로 만든 뒤 참조만 바꾸므로 읽는 쪽은 잠금 없이 항상 일관된 목록을 본다.
+// 좋아요 수처럼 자주 바뀌는 값은 변경 표시만 해 두고 주기적으로 다시 적재한다.
+@Component
+public class ParkCatalog {
+    private static final Logger logger = LoggerFactory.getLogger(ParkCatalog.class);
+
+    private final ParkRepository parkRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate loadTransaction;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private volatile ParkCatalogSnapshot snapshot = ParkCatalogSnapshot.EMPTY;
+    private volatile ParkListBody listBody;
+
+    public ParkCatalog(ParkRepository parkRepository, ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager) {
+        this.parkRepository = parkRepository;
+        this.objectMapper = objectMapper;
+        this.listBody = ParkListBody.of(objectMapper, List.of());
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        // 적재 중에 생긴 변경은 다음 주기에 다시 반영되도록 읽기 전에 표시를 지운다.
+        dirty.set(false);
+        List<ParkCatalogRow> rows = loadTransaction.execute(status -> parkRepository.findAllCatalogRows());
+        ParkCatalogSnapshot loaded = new ParkCatalogSnapshot(rows);
+        ParkListBody body = ParkListBody.of(objectMapper, loaded.getParks());
+        snapshot = loaded;
+        listBody = body;
+        logger.info("공원 카탈로그 적재 완료: {}개 (목록 응답 gzip {} bytes)", rows.size(), body.compressedSize());
+    }
+
+    @Scheduled(fixedDelayString = "${custom.park.catalog.refresh-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (dirty.get()) {
+            reload();
+        }
+    }
+
+    // 좋아요 수가 바뀐 트랜잭션이 커밋된 뒤에 호출한다.
+    public void changed() {
+        dirty.set(true);
+    }
+
+    public ParkCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public ParkListBody listBody() {
+        return listBody;
+    }
+}
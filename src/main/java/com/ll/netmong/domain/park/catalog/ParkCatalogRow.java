@@ -0,0 +1,34 @@
+package com.ll.netmong.domain.park.catalog;
+
+import com.ll.netmong.domain.park.dto.response.ParkResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 카탈로그 적재용 프로젝션. 엔티티와 지연 컬렉션을 만들지 않고 응답에 필요한 컬럼만 읽는다.
+@Getter
+@AllArgsConstructor
+public class ParkCatalogRow {
+    private Long id;
+    private String parkNm;
+    private String lnmadr;
+    private double latitude;
+    private double longitude;
+    private String phoneNumber;
+    private String state;
+    private String city;
+    private Long likesCount;
+
+    public ParkResponse toResponse() {
+        return ParkResponse.builder()
+                .id(id)
+                .parkNm(parkNm)
+                .lnmadr(lnmadr)
+                .latitude(latitude)
+                .longitude(longitude)
+                .phoneNumber(phoneNumber)
+                .state(state)
+                .city(city)
+                .likesCount(likesCount)
+                .build();
+    }
+}
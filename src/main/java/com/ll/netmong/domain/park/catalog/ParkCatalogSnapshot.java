@@ -0,0 +1,111 @@
+package com.ll.netmong.domain.park.catalog;
+
+import com.ll.netmong.domain.park.dto.response.ParkResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// 한 시점의 공원 목록과 지역별 색인. 만든 뒤에는 바꾸지 않으며, 같은 ParkResponse 객체를 모든 목록이 공유한다.
+// 공유 객체이므로 꺼내 간 쪽에서 setter 로 값을 바꾸면 안 된다. (좋아요 여부처럼 요청마다 다른 값은 복사본에 넣는다)
+public final class ParkCatalogSnapshot {
+    static final ParkCatalogSnapshot EMPTY = new ParkCatalogSnapshot(List.of());
+
+    private final List<ParkResponse> parks;
+    private final Map<Long, ParkResponse> parksById;
+    private final List<String> states;
+    private final Map<String, List<String>> citiesByState;
+    private final Map<String, Map<String, List<ParkResponse>>> parksByStateAndCity;
+
+    ParkCatalogSnapshot(List<ParkCatalogRow> rows) {
+        List<ParkResponse> parks = new ArrayList<>(rows.size());
+        Map<Long, ParkResponse> parksById = new HashMap<>(rows.size() * 2);
+        Map<String, Integer> parkCountByState = new HashMap<>();
+        Map<String, TreeMap<String, List<ParkResponse>>> grouped = new HashMap<>();
+
+        for (ParkCatalogRow row : rows) {
+            ParkResponse park = row.toResponse();
+            parks.add(park);
+            parksById.put(park.getId(), park);
+
+            if (row.getState() == null) {
+                continue;
+            }
+            parkCountByState.merge(row.getState(), 1, Integer::sum);
+            if (row.getCity() != null) {
+                grouped.computeIfAbsent(row.getState(), state -> new TreeMap<>())
+                        .computeIfAbsent(row.getCity(), city -> new ArrayList<>())
+                        .add(park);
+            }
+        }
+
+        this.parks = List.copyOf(parks);
+        this.parksById = Map.copyOf(parksById);
+        // 공원이 많은 지역부터 (기존 GROUP BY ... ORDER BY COUNT DESC 와 같은 순서)
+        this.states = parkCountByState.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        Map<String, List<String>> citiesByState = new HashMap<>();
+        Map<String, Map<String, List<ParkResponse>>> parksByStateAndCity = new HashMap<>();
+        grouped.forEach((state, cities) -> {
+            citiesByState.put(state, List.copyOf(new TreeSet<>(cities.keySet())));
+            Map<String, List<ParkResponse>> parksByCity = new LinkedHashMap<>();
+            cities.forEach((city, cityParks) -> parksByCity.put(city, List.copyOf(cityParks)));
+            parksByStateAndCity.put(state, Map.copyOf(parksByCity));
+        });
+        this.citiesByState = Map.copyOf(citiesByState);
+        this.parksByStateAndCity = Map.copyOf(parksByStateAndCity);
+    }
+
+    public List<ParkResponse> getParks() {
+        return parks;
+    }
+
+    // 목록은 id 순이므로 커서(마지막으로 받은 id) 다음 위치를 이분 탐색으로 찾는다.
+    // 다음 페이지가 있는지 알 수 있도록 limit 보다 하나 더 돌려줄 수 있다.
+    public List<ParkResponse> getParksAfter(Long afterId, int limit) {
+        int from = 0;
+        if (afterId != null) {
+            int low = 0;
+            int high = parks.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (parks.get(mid).getId() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            from = low;
+        }
+        return parks.subList(from, Math.min(parks.size(), from + limit + 1));
+    }
+
+    public ParkResponse findById(Long parkId) {
+        return parksById.get(parkId);
+    }
+
+    public List<String> getStates() {
+        return states;
+    }
+
+    public List<String> getCitiesByState(String state) {
+        return citiesByState.getOrDefault(state, List.of());
+    }
+
+    public List<ParkResponse> getParksByStateAndCity(String state, String city) {
+        return parksByStateAndCity.getOrDefault(state, Map.of()).getOrDefault(city, List.of());
+    }
+
+    public int size() {
+        return parks.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ll.netmong.domain.park.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.netmong.common.RsData;
+import com.ll.netmong.domain.park.dto.response.ParkResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 전체 공원 목록 응답(RsData<List<ParkResponse>>)을 스냅샷마다 한 번만 직렬화해 gzip 으로 들고 있는다.
+// 요청마다 목록을 다시 직렬화하지 않고, 같은 스냅샷이면 ETag 가 같으므로 재요청은 304 로 끝난다.
+public final class ParkListBody {
+    private final byte[] gzip;
+    private final String etag;
+
+    private ParkListBody(byte[] gzip, String etag) {
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    // 압축 스트림에 바로 직렬화하므로 압축 전 JSON 전체를 메모리에 만들지 않는다.
+    static ParkListBody of(ObjectMapper objectMapper, List<ParkResponse> parks) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, RsData.successOf(parks));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] gzip = buffer.toByteArray();
+        return new ParkListBody(gzip, etagOf(gzip));
+    }
+
+    // 압축한 본문과 풀어 준 본문이 같은 내용이므로 약한 ETag 를 쓴다.
+    private static String etagOf(byte[] gzip) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(gzip);
+            return "W/\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public int compressedSize() {
+        return gzip.length;
+    }
+
+    public void writeCompressed(OutputStream out) throws IOException {
+        out.write(gzip);
+    }
+
+    // gzip 을 받지 않는 클라이언트에는 버퍼 단위로 풀어서 흘려보낸다.
+    public void writeUncompressed(OutputStream out) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            in.transferTo(out);
+        }
+    }
+}
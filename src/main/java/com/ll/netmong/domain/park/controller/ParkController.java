@@ -1,12 +1,21 @@
 package com.ll.netmong.domain.park.controller;
 
+import com.ll.netmong.common.CursorResponse;
 import com.ll.netmong.common.RsData;
+import com.ll.netmong.domain.park.catalog.ParkListBody;
+import com.ll.netmong.domain.park.dto.response.NearbyParkResponse;
 import com.ll.netmong.domain.park.dto.response.ParkResponse;
 import com.ll.netmong.domain.park.service.ParkService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,10 +26,43 @@ public class ParkController {
 
     private final ParkService parkService;
 
+    // 카탈로그 스냅샷마다 미리 압축해 둔 본문을 보내고, 같은 스냅샷을 이미 받은 클라이언트에는 304 로 답한다.
     @GetMapping
-    public RsData<List<ParkResponse>> getParks() {
-        List<ParkResponse> parks = parkService.getParks();
-        return RsData.successOf(parks);
+    public ResponseEntity<StreamingResponseBody> getParks(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        ParkListBody body = parkService.getParkListBody();
+        if (webRequest.checkNotModified(body.getEtag())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(body.getEtag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(body.compressedSize())
+                    .body(body::writeCompressed);
+        }
+        return response.body(body::writeUncompressed);
+    }
+
+    @GetMapping("/page")
+    public RsData<CursorResponse<ParkResponse>> getParksPage(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return RsData.successOf(parkService.getParksPage(cursor, size));
+    }
+
+    // 전체 목록을 DB 커서에서 바로 흘려보낸다. (스냅샷이 아직 적재되지 않았거나 최신 값이 필요할 때)
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamParks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(parkService::streamParks);
     }
 
     @PostMapping
@@ -29,6 +71,19 @@ public class ParkController {
         return RsData.successOf("공원 정보가 성공적으로 저장되었습니다.");
     }
 
+    @GetMapping("/nearby")
+    public RsData<List<NearbyParkResponse>> getParksNearby(@RequestParam double latitude, @RequestParam double longitude,
+                                                           @RequestParam(defaultValue = "3000") double radius,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return RsData.successOf(parkService.getParksWithin(latitude, longitude, radius, size));
+    }
+
+    @GetMapping("/nearest")
+    public RsData<List<NearbyParkResponse>> getNearestParks(@RequestParam double latitude, @RequestParam double longitude,
+                                                            @RequestParam(defaultValue = "5") int k) {
+        return RsData.successOf(parkService.getNearestParks(latitude, longitude, k));
+    }
+
     @GetMapping("/{parkId}")
     public RsData<ParkResponse> getPark(@PathVariable Long parkId, @AuthenticationPrincipal UserDetails userDetails) {
         ParkResponse park = parkService.getPark(parkId, userDetails);
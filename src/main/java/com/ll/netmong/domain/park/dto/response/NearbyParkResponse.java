@@ -0,0 +1,11 @@
+package com.ll.netmong.domain.park.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyParkResponse {
+    private ParkResponse park;
+    private long distanceMeters;
+}
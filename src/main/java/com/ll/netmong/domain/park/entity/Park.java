@@ -19,6 +19,10 @@ import java.util.List;
 @SuperBuilder(toBuilder = true)
 public class Park extends BaseEntity {
 
+    // 공공 API 의 관리번호. 다시 적재할 때 같은 공원을 찾는 키로 쓴다.
+    @Column(name = "manageNo", unique = true)
+    private String manageNo;
+
     @Column(name = "parkNm")
     private String parkNm;
 
@@ -52,6 +56,15 @@ public class Park extends BaseEntity {
     @Column(name = "likes_count", nullable = false)
     private Long likesCount = 0L;
 
+    // 공공 API 원본(이름, 주소, 좌표, 전화번호)의 해시. 다시 적재할 때 바뀐 공원만 쓰기 위해 비교한다.
+    @Column(name = "fingerprint")
+    private Long fingerprint;
+
+    // 공공 API 에서 빠진 공원. 좋아요와 댓글이 참조하므로 행은 지우지 않는다.
+    @Builder.Default
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted = false;
+
     public ParkResponse toResponse() {
         return ParkResponse.builder()
                 .id(getId())
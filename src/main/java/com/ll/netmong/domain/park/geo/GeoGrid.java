@@ -0,0 +1,189 @@
+package com.ll.netmong.domain.park.geo;
+
+import java.util.Arrays;
+
+// 위경도를 cellDegrees 크기의 격자로 나눠 같은 칸의 점을 연속된 primitive 배열에 모아 둔 불변 색인.
+// 칸 번호는 (행 * 열 수 + 열) 이므로 한 행 안의 칸들은 정렬 순서상 붙어 있고, 행마다 이진 탐색 한 번으로 범위를 찾는다.
+// 경도 ±180 경계를 넘는 검색은 고려하지 않는다. (국내 공원만 다룬다)
+public final class GeoGrid {
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private final double cellDegrees;
+    private final long columns;
+    private final long rows;
+    // 점이 있는 칸 번호(정렬됨)와 각 칸이 시작하는 위치. cellStarts 는 칸 수 + 1 개다.
+    private final long[] cellKeys;
+    private final int[] cellStarts;
+    private final long[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    public GeoGrid(double cellDegrees, long[] ids, double[] latitudes, double[] longitudes) {
+        // 칸 번호가 31비트 안에 들어와야 아래의 정렬용 패킹이 성립한다.
+        if (cellDegrees < 0.01 || cellDegrees > 10) {
+            throw new IllegalArgumentException("격자 크기는 0.01 ~ 10도 사이여야 합니다: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+        this.columns = (long) Math.ceil(360 / cellDegrees) + 1;
+        this.rows = (long) Math.ceil(180 / cellDegrees) + 1;
+
+        int size = ids.length;
+        // 상위 32비트에 칸 번호, 하위 32비트에 원래 위치를 넣어 primitive 정렬 한 번으로 칸별로 모은다.
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (cellKey(row(latitudes[i]), column(longitudes[i])) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        this.ids = new long[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        long[] keys = new long[size];
+        int[] starts = new int[size + 1];
+        int cells = 0;
+        for (int i = 0; i < size; i++) {
+            int source = (int) order[i];
+            long key = order[i] >>> 32;
+            if (cells == 0 || keys[cells - 1] != key) {
+                keys[cells] = key;
+                starts[cells] = i;
+                cells++;
+            }
+            this.ids[i] = ids[source];
+            this.latitudes[i] = latitudes[source];
+            this.longitudes[i] = longitudes[source];
+        }
+        starts[cells] = size;
+        this.cellKeys = Arrays.copyOf(keys, cells);
+        this.cellStarts = Arrays.copyOf(starts, cells + 1);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // 반경 안의 점을 가까운 순으로 최대 limit 개 반환한다.
+    public Neighbor[] within(double latitude, double longitude, double radiusMeters, int limit) {
+        Candidates candidates = collect(latitude, longitude, radiusMeters);
+        return candidates.nearest(limit);
+    }
+
+    // 가까운 k 개. 반경을 두 배씩 넓히며 k 개가 모일 때까지 찾는다.
+    // 반경 r 안의 점은 빠짐없이 모으므로, r 안에 k 개 이상 있으면 그중 가까운 k 개가 전체에서도 가장 가깝다.
+    public Neighbor[] nearest(double latitude, double longitude, int k, double maxRadiusMeters) {
+        double radius = Math.max(cellDegrees * METERS_PER_DEGREE, 1);
+        while (true) {
+            Candidates candidates = collect(latitude, longitude, radius);
+            if (candidates.size >= k || radius >= maxRadiusMeters || candidates.size == ids.length) {
+                return candidates.nearest(k);
+            }
+            radius = Math.min(radius * 2, maxRadiusMeters);
+        }
+    }
+
+    private Candidates collect(double latitude, double longitude, double radiusMeters) {
+        Candidates candidates = new Candidates();
+        if (ids.length == 0) {
+            return candidates;
+        }
+
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        // 극 근처에서는 경도 폭이 무한히 커지므로 전체 경도를 본다.
+        double lonDelta = cosLat < 1e-6 ? 180 : Math.min(radiusMeters / (METERS_PER_DEGREE * cosLat), 180);
+
+        long rowFrom = row(Math.max(latitude - latDelta, -90));
+        long rowTo = row(Math.min(latitude + latDelta, 90));
+        long columnFrom = column(Math.max(longitude - lonDelta, -180));
+        long columnTo = column(Math.min(longitude + lonDelta, 180));
+
+        for (long row = rowFrom; row <= rowTo; row++) {
+            long fromKey = cellKey(row, columnFrom);
+            long toKey = cellKey(row, columnTo);
+
+            int cell = Arrays.binarySearch(cellKeys, fromKey);
+            if (cell < 0) {
+                cell = -cell - 1;
+            }
+            for (; cell < cellKeys.length && cellKeys[cell] <= toKey; cell++) {
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    double distance = distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                    if (distance <= radiusMeters) {
+                        candidates.add(i, distance);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private long row(double latitude) {
+        return Math.min((long) Math.floor((latitude + 90) / cellDegrees), rows - 1);
+    }
+
+    private long column(double longitude) {
+        return Math.min((long) Math.floor((longitude + 180) / cellDegrees), columns - 1);
+    }
+
+    private long cellKey(long row, long column) {
+        return row * columns + column;
+    }
+
+    // 하버사인 거리(m)
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static final class Neighbor {
+        private final long id;
+        private final double distanceMeters;
+
+        private Neighbor(long id, double distanceMeters) {
+            this.id = id;
+            this.distanceMeters = distanceMeters;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getDistanceMeters() {
+            return distanceMeters;
+        }
+    }
+
+    private final class Candidates {
+        private int[] positions = new int[16];
+        private double[] distances = new double[16];
+        private int size = 0;
+
+        private void add(int position, double distance) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            positions[size] = position;
+            distances[size] = distance;
+            size++;
+        }
+
+        private Neighbor[] nearest(int limit) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+
+            Neighbor[] result = new Neighbor[Math.min(limit, size)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new Neighbor(ids[positions[order[i]]], distances[order[i]]);
+            }
+            return result;
+        }
+    }
+}
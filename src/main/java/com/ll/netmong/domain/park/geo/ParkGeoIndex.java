@@ -0,0 +1,76 @@
+package com.ll.netmong.domain.park.geo;
+
+import com.ll.netmong.domain.park.repository.ParkLocationRow;
+import com.ll.netmong.domain.park.repository.ParkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 공원 좌표 격자 색인. 공원 데이터는 공공 API 적재 때만 바뀌므로 적재가 끝나면 통째로 다시 만들어 교체한다.
+@Component
+public class ParkGeoIndex {
+    private static final Logger logger = LoggerFactory.getLogger(ParkGeoIndex.class);
+
+    private final ParkRepository parkRepository;
+    private final TransactionTemplate loadTransaction;
+    private final double cellDegrees;
+
+    private volatile GeoGrid grid;
+
+    public ParkGeoIndex(ParkRepository parkRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${custom.park.geo.cell-degrees:0.05}") double cellDegrees) {
+        this.parkRepository = parkRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        // 적재 트랜잭션이 커밋된 뒤의 데이터를 읽도록 새 트랜잭션에서 읽는다.
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.cellDegrees = cellDegrees;
+        this.grid = new GeoGrid(cellDegrees, new long[0], new double[0], new double[0]);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ParkLocationRow> rows = loadTransaction.execute(status -> parkRepository.findAllLocations());
+
+        long[] ids = new long[rows.size()];
+        double[] latitudes = new double[rows.size()];
+        double[] longitudes = new double[rows.size()];
+        int size = 0;
+        for (ParkLocationRow row : rows) {
+            // API 에 좌표가 없으면 0 으로 저장되므로 색인에서 뺀다.
+            if (row.getLatitude() == 0 && row.getLongitude() == 0) {
+                continue;
+            }
+            ids[size] = row.getId();
+            latitudes[size] = row.getLatitude();
+            longitudes[size] = row.getLongitude();
+            size++;
+        }
+
+        grid = new GeoGrid(cellDegrees, Arrays.copyOf(ids, size),
+                Arrays.copyOf(latitudes, size), Arrays.copyOf(longitudes, size));
+        logger.info("공원 좌표 색인 구성 완료: {}개 (좌표 없음 {}개 제외)", size, rows.size() - size);
+    }
+
+    public GeoGrid.Neighbor[] findWithin(double latitude, double longitude, double radiusMeters, int limit) {
+        return grid.within(latitude, longitude, radiusMeters, limit);
+    }
+
+    public GeoGrid.Neighbor[] findNearest(double latitude, double longitude, int k, double maxRadiusMeters) {
+        return grid.nearest(latitude, longitude, k, maxRadiusMeters);
+    }
+
+    public int size() {
+        return grid.size();
+    }
+}
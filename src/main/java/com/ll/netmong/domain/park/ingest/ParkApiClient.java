@@ -0,0 +1,96 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.base.config.ApiKeys;
+import com.ll.netmong.domain.park.entity.Park;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 공공 API 페이지 하나를 받아 온다. 응답 본문은 받는 대로 파서에 흘려 넣는다.
+@Component
+public class ParkApiClient {
+    private static final Logger logger = LoggerFactory.getLogger(ParkApiClient.class);
+    private static final long RETRY_BACKOFF_MS = 500;
+
+    private final ApiKeys apiKeys;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final HttpClient httpClient;
+    private final ParkXmlParser parser;
+
+    public ParkApiClient(ApiKeys apiKeys, ParkXmlParser parser,
+                         @Value("${custom.park.api.base-url:http://api.data.go.kr/openapi/tn_pubr_public_cty_park_info_api}") String baseUrl,
+                         @Value("${custom.park.api.timeout-ms:10000}") long timeoutMs,
+                         @Value("${custom.park.api.max-attempts:3}") int maxAttempts) {
+        this.apiKeys = apiKeys;
+        this.parser = parser;
+        this.baseUrl = baseUrl;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    public ParkApiPage fetchPage(int pageNo, int pageSize) {
+        URI uri = URI.create(baseUrl +
+                "?ServiceKey=" + apiKeys.getParkApiKey() +
+                "&pageNo=" + pageNo +
+                "&numOfRows=" + pageSize);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return fetch(uri, pageSize);
+            } catch (ParkApiException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                logger.warn("공원 API {}페이지 요청 실패 ({}/{}): {}", pageNo, attempt, maxAttempts, e.getMessage());
+                sleep(RETRY_BACKOFF_MS * attempt);
+            }
+        }
+    }
+
+    private ParkApiPage fetch(URI uri, int pageSize) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new ParkApiException("공원 API 응답 코드 " + response.statusCode());
+                }
+                List<Park> parks = new ArrayList<>(pageSize);
+                int totalCount = parser.parse(body, item -> parks.add(item.build()));
+                return new ParkApiPage(totalCount, parks);
+            }
+        } catch (IOException | XMLStreamException | NumberFormatException e) {
+            throw new ParkApiException("공원 API 요청 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParkApiException("공원 API 요청이 중단되었습니다.", e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParkApiException("공원 API 재시도가 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ll.netmong.domain.park.ingest;
+
+public class ParkApiException extends RuntimeException {
+    public ParkApiException(String message) {
+        super(message);
+    }
+
+    public ParkApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ParkApiPage {
+    private int totalCount;
+    private List<Park> parks;
+}
@@ -0,0 +1,164 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import com.ll.netmong.domain.park.repository.ParkFingerprintRow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 적재를 시작할 때 DB 의 공원 지문을 한 번 읽어 두고, 페이지마다 들어온 공원을 새 공원 / 바뀐 공원 / 그대로인 공원으로 나눈다.
+// 여러 적재 스레드가 함께 쓰므로, 이번 적재에서 본 공원 기록은 동시성 컬렉션에 남긴다.
+class ParkFingerprintIndex {
+    private final Map<String, ParkFingerprintRow> byManageNo = new HashMap<>();
+    // 관리번호 없이 쌓인 예전 행. 같은 이름과 주소의 공원이 처음 들어올 때 그 행을 이어받는다.
+    private final Map<String, Queue<Long>> legacyByNameAndAddress = new HashMap<>();
+    private final List<ParkFingerprintRow> activeRows = new ArrayList<>();
+
+    private final Set<String> seenManageNos = ConcurrentHashMap.newKeySet();
+    // 이번 적재에 나온 공원의 이름과 주소 -> 그 공원의 관리번호
+    private final Map<String, String> seenLegacyKeys = new ConcurrentHashMap<>();
+    private final Set<Long> adoptedIds = ConcurrentHashMap.newKeySet();
+
+    ParkFingerprintIndex(List<ParkFingerprintRow> rows) {
+        for (ParkFingerprintRow row : rows) {
+            if (!row.isDeleted()) {
+                activeRows.add(row);
+            }
+            if (row.getManageNo() != null) {
+                byManageNo.put(row.getManageNo(), row);
+            } else if (!row.isDeleted()) {
+                legacyByNameAndAddress.computeIfAbsent(legacyKey(row.getParkNm(), row.getLnmadr()),
+                        key -> new ConcurrentLinkedQueue<>()).add(row.getId());
+            }
+        }
+    }
+
+    // 한 페이지의 공원을 비교한다. 한 페이지 안에 같은 관리번호가 두 번 오면 나중 것을 쓴다.
+    Diff diff(List<Park> parks) {
+        Map<String, Park> byPageManageNo = new LinkedHashMap<>();
+        parks.forEach(park -> byPageManageNo.put(park.getManageNo(), park));
+
+        Diff diff = new Diff();
+        for (Park park : byPageManageNo.values()) {
+            if (!seenManageNos.add(park.getManageNo())) {
+                // 다른 페이지에서 이미 처리한 관리번호
+                diff.unchanged++;
+                continue;
+            }
+            seenLegacyKeys.putIfAbsent(legacyKey(park.getParkNm(), park.getLnmadr()), park.getManageNo());
+            long fingerprint = fingerprint(park);
+            ParkFingerprintRow existing = byManageNo.get(park.getManageNo());
+
+            if (existing == null) {
+                Long legacyId = claimLegacy(park);
+                if (legacyId == null) {
+                    diff.inserts.add(park.toBuilder().fingerprint(fingerprint).build());
+                } else {
+                    diff.updates.add(park.toBuilder().id(legacyId).fingerprint(fingerprint).build());
+                }
+            } else if (existing.isDeleted() || existing.getFingerprint() == null || existing.getFingerprint() != fingerprint) {
+                diff.updates.add(park.toBuilder().id(existing.getId()).fingerprint(fingerprint).build());
+            } else {
+                diff.unchanged++;
+            }
+        }
+        return diff;
+    }
+
+    // 이번 적재에서 한 번도 나오지 않은 공원. 모든 페이지를 다 본 뒤에만 의미가 있다.
+    // 이어받지 못한 예전 중복 행은 legacyDuplicates() 로 따로 센다.
+    List<Long> missingIds() {
+        List<Long> missing = new ArrayList<>();
+        for (ParkFingerprintRow row : activeRows) {
+            boolean seen = row.getManageNo() != null
+                    ? seenManageNos.contains(row.getManageNo())
+                    : adoptedIds.contains(row.getId()) || isLegacyDuplicate(row);
+            if (!seen) {
+                missing.add(row.getId());
+            }
+        }
+        return missing;
+    }
+
+    // 같은 이름과 주소의 공원이 이번 적재에 나왔는데도 이어받지 못한 예전 행.
+    // 그 공원은 다른 행(관리번호가 있는 행 또는 먼저 이어받은 행)에 있으므로 남은 행은 중복이다.
+    // 중복 행 id -> 그 공원이 남아 있는 행의 관리번호
+    Map<Long, String> legacyDuplicates() {
+        Map<Long, String> duplicates = new LinkedHashMap<>();
+        for (ParkFingerprintRow row : activeRows) {
+            if (row.getManageNo() == null && !adoptedIds.contains(row.getId()) && isLegacyDuplicate(row)) {
+                duplicates.put(row.getId(), seenLegacyKeys.get(legacyKey(row.getParkNm(), row.getLnmadr())));
+            }
+        }
+        return duplicates;
+    }
+
+    int activeCount() {
+        return activeRows.size();
+    }
+
+    private boolean isLegacyDuplicate(ParkFingerprintRow row) {
+        return seenLegacyKeys.containsKey(legacyKey(row.getParkNm(), row.getLnmadr()));
+    }
+
+    private Long claimLegacy(Park park) {
+        Queue<Long> candidates = legacyByNameAndAddress.get(legacyKey(park.getParkNm(), park.getLnmadr()));
+        Long id = candidates == null ? null : candidates.poll();
+        if (id != null) {
+            adoptedIds.add(id);
+        }
+        return id;
+    }
+
+    private static String legacyKey(String parkNm, String lnmadr) {
+        return parkNm + "\u0000" + lnmadr;
+    }
+
+    static long fingerprint(Park park) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : new String[]{park.getParkNm(), park.getLnmadr(), park.getPhoneNumber()}) {
+                if (field != null) {
+                    digest.update(field.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0);
+            }
+            digest.update(ByteBuffer.allocate(2 * Double.BYTES)
+                    .putDouble(park.getLatitude())
+                    .putDouble(park.getLongitude())
+                    .array());
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Diff {
+        private final List<Park> inserts = new ArrayList<>();
+        private final List<Park> updates = new ArrayList<>();
+        private int unchanged;
+
+        List<Park> getInserts() {
+            return inserts;
+        }
+
+        List<Park> getUpdates() {
+            return updates;
+        }
+
+        int getUnchanged() {
+            return unchanged;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ll.netmong.domain.park.ingest;
+
+public class ParkIngestionException extends RuntimeException {
+    public ParkIngestionException(String message) {
+        super(message);
+    }
+
+    public ParkIngestionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
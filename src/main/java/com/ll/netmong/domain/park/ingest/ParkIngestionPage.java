@@ -0,0 +1,36 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 적재가 끝난 페이지. 그 페이지의 공원과 같은 트랜잭션에서 저장하므로 여기 있는 페이지는 다시 가져오지 않아도 된다.
+@Entity
+@Getter
+@SuperBuilder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "page_no"}))
+public class ParkIngestionPage extends BaseEntity {
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "page_no", nullable = false)
+    private int pageNo;
+
+    private int parkCount;
+
+    public static ParkIngestionPage of(Long runId, int pageNo, int parkCount) {
+        return ParkIngestionPage.builder()
+                .runId(runId)
+                .pageNo(pageNo)
+                .parkCount(parkCount)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ll.netmong.domain.park.ingest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ParkIngestionPageRepository extends JpaRepository<ParkIngestionPage, Long> {
+    @Query("SELECT p.pageNo FROM ParkIngestionPage p WHERE p.runId = :runId")
+    List<Integer> findPageNosByRunId(@Param("runId") Long runId);
+}
@@ -0,0 +1,21 @@
+package com.ll.netmong.domain.park.ingest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ParkIngestionResult {
+    private Long runId;
+    private boolean resumed;
+    private int totalPages;
+    private int fetchedPages;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int deleted;
+
+    public boolean hasChanges() {
+        return inserted > 0 || updated > 0 || deleted > 0;
+    }
+}
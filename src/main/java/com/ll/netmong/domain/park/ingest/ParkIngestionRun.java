@@ -0,0 +1,53 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.common.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 공공 API 적재 한 번. 끝나지 못한 적재는 다음 실행이 이어받아 남은 페이지만 가져온다.
+@Entity
+@Getter
+@SuperBuilder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ParkIngestionRun extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    private ParkIngestionStatus status;
+
+    private int pageSize;
+
+    // 첫 페이지의 totalCount 를 받기 전에는 0 이다.
+    private int totalPages;
+
+    public static ParkIngestionRun start(int pageSize) {
+        return ParkIngestionRun.builder()
+                .status(ParkIngestionStatus.RUNNING)
+                .pageSize(pageSize)
+                .build();
+    }
+
+    public boolean isResumableWith(int pageSize) {
+        return status != ParkIngestionStatus.COMPLETED && this.pageSize == pageSize;
+    }
+
+    public void resume() {
+        this.status = ParkIngestionStatus.RUNNING;
+    }
+
+    public void updateTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public void fail() {
+        this.status = ParkIngestionStatus.FAILED;
+    }
+
+    public void complete() {
+        this.status = ParkIngestionStatus.COMPLETED;
+    }
+}
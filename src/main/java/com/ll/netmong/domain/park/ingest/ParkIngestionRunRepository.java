@@ -0,0 +1,9 @@
+package com.ll.netmong.domain.park.ingest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ParkIngestionRunRepository extends JpaRepository<ParkIngestionRun, Long> {
+    Optional<ParkIngestionRun> findFirstByOrderByIdDesc();
+}
@@ -0,0 +1,249 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import com.ll.netmong.domain.park.repository.ParkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 공공 API 의 공원 목록을 페이지 단위로 나눠 여러 스레드에서 받아 오고, 페이지마다 바로 DB 에 반영한다.
+// 페이지의 공원과 "이 페이지 끝남" 기록을 한 트랜잭션으로 저장하므로, 중간에 실패하면 다음 실행은 남은 페이지만 가져온다.
+// 한 번에 들고 있는 것은 동시에 처리 중인 페이지뿐이라 전체 목록 크기와 상관없이 메모리 사용량이 일정하다.
+// 페이지마다 공원의 지문을 DB 에 저장된 지문과 비교해 새 공원은 INSERT, 바뀐 공원만 UPDATE 하고,
+// 모든 페이지를 한 번에 다 본 적재에서만 API 에서 빠진 공원을 삭제 표시한다.
+@Service
+public class ParkIngestionService {
+    private static final Logger logger = LoggerFactory.getLogger(ParkIngestionService.class);
+    private static final int FIRST_PAGE = 1;
+
+    private final ParkApiClient parkApiClient;
+    private final ParkRepository parkRepository;
+    private final ParkIngestionRunRepository runRepository;
+    private final ParkIngestionPageRepository pageRepository;
+    private final TransactionTemplate transaction;
+    private final int pageSize;
+    private final int parallelism;
+    private final double maxDeleteRatio;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ParkIngestionService(ParkApiClient parkApiClient,
+                                ParkRepository parkRepository,
+                                ParkIngestionRunRepository runRepository,
+                                ParkIngestionPageRepository pageRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${custom.park.ingest.page-size:100}") int pageSize,
+                                @Value("${custom.park.ingest.parallelism:4}") int parallelism,
+                                @Value("${custom.park.ingest.max-delete-ratio:0.1}") double maxDeleteRatio) {
+        this.parkApiClient = parkApiClient;
+        this.parkRepository = parkRepository;
+        this.runRepository = runRepository;
+        this.pageRepository = pageRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pageSize = pageSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxDeleteRatio = maxDeleteRatio;
+    }
+
+    public ParkIngestionResult ingest() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ParkIngestionException("공원 정보를 이미 적재하고 있습니다.");
+        }
+        try {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ParkIngestionResult run() {
+        ParkIngestionRun run = transaction.execute(status -> startOrResume());
+        Long runId = run.getId();
+        Set<Integer> donePages = new HashSet<>(pageRepository.findPageNosByRunId(runId));
+        boolean resumed = run.getTotalPages() > 0;
+        // 앞선 실행이 저장한 페이지는 다시 보지 않으므로, 이번 실행만으로는 빠진 공원을 알 수 없다.
+        boolean seesAllPages = donePages.isEmpty();
+        ParkFingerprintIndex index = new ParkFingerprintIndex(
+                transaction.execute(status -> parkRepository.findAllFingerprints()));
+        Counts counts = new Counts();
+
+        int totalPages = run.getTotalPages();
+        if (totalPages == 0) {
+            // 첫 페이지의 totalCount 로 전체 페이지 수를 정한다.
+            ParkApiPage firstPage = fetchFirstPage(runId);
+            totalPages = (firstPage.getTotalCount() + pageSize - 1) / pageSize;
+            int pages = totalPages;
+            transaction.executeWithoutResult(status -> runRepository.findById(runId).orElseThrow().updateTotalPages(pages));
+            if (totalPages > 0) {
+                counts.add(savePage(runId, FIRST_PAGE, firstPage, index));
+                donePages.add(FIRST_PAGE);
+            }
+        }
+
+        List<Integer> pending = new ArrayList<>();
+        for (int pageNo = FIRST_PAGE; pageNo <= totalPages; pageNo++) {
+            if (!donePages.contains(pageNo)) {
+                pending.add(pageNo);
+            }
+        }
+
+        List<Integer> failedPages = fetchInParallel(runId, pending, index, counts);
+        if (!failedPages.isEmpty()) {
+            transaction.executeWithoutResult(status -> runRepository.findById(runId).orElseThrow().fail());
+            throw new ParkIngestionException("공원 정보 적재 중 " + failedPages.size() + "개 페이지가 실패했습니다. " +
+                    "다시 실행하면 남은 페이지부터 이어서 적재합니다. 실패한 페이지: " + failedPages);
+        }
+
+        Map<Long, String> duplicates = seesAllPages ? index.legacyDuplicates() : Map.of();
+        List<Long> deletableIds = seesAllPages ? deletableIds(index, duplicates.keySet()) : List.of();
+        int deleted = transaction.execute(status -> {
+            runRepository.findById(runId).orElseThrow().complete();
+            // 중복 행의 좋아요와 댓글은 삭제 표시와 같은 트랜잭션에서 남는 행으로 옮긴다. 옮기지 못한 행은 지우지 않는다.
+            Set<Long> unmoved = duplicates.isEmpty() ? Set.of() : parkRepository.moveReferences(duplicates);
+            List<Long> ids = deletableIds.stream().filter(id -> !unmoved.contains(id)).toList();
+            return ids.isEmpty() ? 0 : parkRepository.softDeleteAll(ids);
+        });
+        if (!seesAllPages) {
+            logger.info("이어서 한 적재라 API 에서 빠진 공원 삭제는 다음 적재로 미룹니다.");
+        }
+        logger.info("공원 정보 적재 완료 (run {}, {}): 전체 {}페이지 중 {}페이지 요청, 추가 {}개, 갱신 {}개, 그대로 {}개, 삭제 {}개",
+                runId, resumed ? "이어서 적재" : "새로 적재", totalPages, counts.pages, counts.inserted, counts.updated,
+                counts.unchanged, deleted);
+
+        return new ParkIngestionResult(runId, resumed, totalPages, counts.pages,
+                counts.inserted, counts.updated, counts.unchanged, deleted);
+    }
+
+    // API 가 일부만 돌려준 경우 공원을 대량으로 지우지 않도록, 빠진 비율이 크면 삭제하지 않는다.
+    // 예전 중복 행은 같은 공원이 이번 적재에 나온 것이 확인된 행이라 비율과 상관없이 지운다.
+    private List<Long> deletableIds(ParkFingerprintIndex index, Collection<Long> duplicateIds) {
+        List<Long> missingIds = index.missingIds();
+        int parkCount = index.activeCount() - duplicateIds.size();
+        if (missingIds.size() > parkCount * maxDeleteRatio) {
+            logger.warn("API 에서 빠진 공원이 {}개로 전체 {}개의 {}% 를 넘어 삭제하지 않습니다.",
+                    missingIds.size(), parkCount, Math.round(maxDeleteRatio * 100));
+            return new ArrayList<>(duplicateIds);
+        }
+
+        List<Long> deletableIds = new ArrayList<>(duplicateIds);
+        deletableIds.addAll(missingIds);
+        return deletableIds;
+    }
+
+    // 마지막 적재가 끝나지 못했으면 그 적재를 이어서 한다.
+    private ParkIngestionRun startOrResume() {
+        return runRepository.findFirstByOrderByIdDesc()
+                .filter(run -> run.isResumableWith(pageSize))
+                .map(run -> {
+                    run.resume();
+                    return run;
+                })
+                .orElseGet(() -> runRepository.save(ParkIngestionRun.start(pageSize)));
+    }
+
+    private ParkApiPage fetchFirstPage(Long runId) {
+        try {
+            return parkApiClient.fetchPage(FIRST_PAGE, pageSize);
+        } catch (RuntimeException e) {
+            transaction.executeWithoutResult(status -> runRepository.findById(runId).orElseThrow().fail());
+            throw new ParkIngestionException("공원 API 첫 페이지를 가져오지 못했습니다.", e);
+        }
+    }
+
+    private List<Integer> fetchInParallel(Long runId, List<Integer> pages, ParkFingerprintIndex index, Counts counts) {
+        List<Integer> failedPages = new ArrayList<>();
+        if (pages.isEmpty()) {
+            return failedPages;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, pages.size()), new IngestThreadFactory());
+        try {
+            List<Future<ParkFingerprintIndex.Diff>> futures = new ArrayList<>(pages.size());
+            for (int pageNo : pages) {
+                futures.add(executor.submit(() -> savePage(runId, pageNo, parkApiClient.fetchPage(pageNo, pageSize), index)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    counts.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    logger.warn("공원 API {}페이지 적재 실패: {}", pages.get(i), e.getCause().getMessage());
+                    failedPages.add(pages.get(i));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            transaction.executeWithoutResult(status -> runRepository.findById(runId).orElseThrow().fail());
+            throw new ParkIngestionException("공원 정보 적재가 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return failedPages;
+    }
+
+    private ParkFingerprintIndex.Diff savePage(Long runId, int pageNo, ParkApiPage page, ParkFingerprintIndex index) {
+        // 관리번호가 없는 행은 다음 적재 때 같은 공원을 찾을 수 없으므로 건너뛴다.
+        List<Park> parks = page.getParks().stream()
+                .filter(park -> park.getManageNo() != null && !park.getManageNo().isBlank())
+                .toList();
+        if (parks.size() < page.getParks().size()) {
+            logger.warn("공원 API {}페이지에서 관리번호가 없는 {}개 행을 건너뜁니다.", pageNo, page.getParks().size() - parks.size());
+        }
+
+        ParkFingerprintIndex.Diff diff = index.diff(parks);
+        transaction.executeWithoutResult(status -> {
+            if (!diff.getInserts().isEmpty()) {
+                parkRepository.insertAll(diff.getInserts());
+            }
+            if (!diff.getUpdates().isEmpty()) {
+                parkRepository.updateAll(diff.getUpdates());
+            }
+            pageRepository.save(ParkIngestionPage.of(runId, pageNo, parks.size()));
+        });
+        return diff;
+    }
+
+    // 결과 집계는 적재를 시작한 스레드에서만 한다.
+    private static class Counts {
+        private int pages;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+
+        void add(ParkFingerprintIndex.Diff diff) {
+            pages++;
+            inserted += diff.getInserts().size();
+            updated += diff.getUpdates().size();
+            unchanged += diff.getUnchanged();
+        }
+    }
+
+    private static class IngestThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "park-ingest-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
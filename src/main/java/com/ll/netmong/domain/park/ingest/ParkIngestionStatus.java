@@ -0,0 +1,5 @@
+package com.ll.netmong.domain.park.ingest;
+
+public enum ParkIngestionStatus {
+    RUNNING, FAILED, COMPLETED
+}
@@ -0,0 +1,26 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.service.ParkService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 매일 밤 공공 API 와 공원 목록을 맞춘다. 기본값 "-" 는 꺼 둔 상태이며, 운영에서 cron 을 지정해 켠다.
+@Component
+@RequiredArgsConstructor
+public class ParkSyncScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(ParkSyncScheduler.class);
+
+    private final ParkService parkService;
+
+    @Scheduled(cron = "${custom.park.sync.cron:-}")
+    public void sync() {
+        try {
+            parkService.saveParksFromApi();
+        } catch (ParkIngestionException e) {
+            logger.warn("공원 정보 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+// data.go.kr 전국도시공원정보 응답을 XMLStreamReader 로 앞에서부터 한 번만 읽는다.
+// 응답 전체를 문자열이나 DOM 으로 만들지 않고, <item> 하나를 다 읽을 때마다 Park 빌더를 넘긴다.
+//
+// <response>
+//   <header><resultCode>00</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header>
+//   <body><items><item><manageNo/><parkNm/><lnmadr/><latitude/><longitude/><phoneNumber/>...</item></items>
+//         <numOfRows/><pageNo/><totalCount/></body>
+// </response>
+@Component
+public class ParkXmlParser {
+    private static final String NORMAL_CODE = "00";
+    private static final String NO_DATA_CODE = "03";
+
+    private final XMLInputFactory factory;
+
+    public ParkXmlParser() {
+        factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    // 응답의 totalCount 를 돌려준다. 오류 응답이면 ParkApiException 을 던진다.
+    public int parse(InputStream in, Consumer<Park.ParkBuilder<?, ?>> items) throws XMLStreamException {
+        XMLStreamReader reader = createReader(in);
+        try {
+            String resultCode = null;
+            String resultMsg = null;
+            int totalCount = 0;
+
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case "item" -> items.accept(readItem(reader));
+                    // 인증키 오류 등은 OpenAPI_ServiceResponse/cmmMsgHeader 형식으로 온다.
+                    case "resultCode", "returnReasonCode" -> resultCode = reader.getElementText().trim();
+                    case "resultMsg", "returnAuthMsg" -> resultMsg = reader.getElementText().trim();
+                    case "totalCount" -> totalCount = parseInt(reader.getElementText());
+                    default -> {
+                    }
+                }
+            }
+
+            if (NO_DATA_CODE.equals(resultCode)) {
+                return 0;
+            }
+            if (resultCode != null && !NORMAL_CODE.equals(resultCode)) {
+                throw new ParkApiException("공원 API 오류 응답: " + resultCode + " " + resultMsg);
+            }
+            return totalCount;
+        } finally {
+            reader.close();
+        }
+    }
+
+    // 팩토리의 리더 생성은 스레드 안전이 보장되지 않으므로 생성만 잠그고, 읽기는 각 스레드에서 따로 한다.
+    private XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+        synchronized (factory) {
+            return factory.createXMLStreamReader(in);
+        }
+    }
+
+    // <item> 시작 태그에서 호출되어 </item> 까지 읽는다. 모르는 필드는 건너뛴다.
+    private Park.ParkBuilder<?, ?> readItem(XMLStreamReader reader) throws XMLStreamException {
+        Park.ParkBuilder<?, ?> builder = Park.builder();
+        String lnmadr = "";
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "manageNo" -> builder.manageNo(reader.getElementText().trim());
+                case "parkNm" -> builder.parkNm(reader.getElementText().trim());
+                case "lnmadr" -> lnmadr = reader.getElementText().trim();
+                case "latitude" -> builder.latitude(parseDouble(reader.getElementText()));
+                case "longitude" -> builder.longitude(parseDouble(reader.getElementText()));
+                case "phoneNumber" -> builder.phoneNumber(reader.getElementText().trim());
+                default -> {
+                }
+            }
+        }
+
+        // 지번 주소의 첫 두 단어가 시도, 시군구다.
+        String[] lnmadrSplit = lnmadr.split("\\s");
+        return builder
+                .lnmadr(lnmadr)
+                .state(lnmadrSplit.length > 0 ? lnmadrSplit[0] : "")
+                .city(lnmadrSplit.length > 1 ? lnmadrSplit[1] : "");
+    }
+
+    private double parseDouble(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? 0 : Double.parseDouble(trimmed);
+    }
+
+    private int parseInt(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? 0 : Integer.parseInt(trimmed);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ll.netmong.domain.park.repository;
+
+import com.ll.netmong.domain.park.entity.Park;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ParkBulkRepository {
+    List<ParkFingerprintRow> findAllFingerprints();
+
+    void insertAll(List<Park> parks);
+
+    void updateAll(List<Park> parks);
+
+    int softDeleteAll(List<Long> ids);
+
+    // 중복 행 id -> 남는 행의 관리번호. 남는 행을 찾지 못해 참조를 옮기지 못한 중복 행 id 를 반환한다.
+    Set<Long> moveReferences(Map<Long, String> manageNoByDuplicateId);
+}
@@ -0,0 +1,138 @@
+package com.ll.netmong.domain.park.repository;
+
+import com.ll.netmong.domain.park.entity.Park;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 공공 API 동기화용 배치 쓰기. 바뀐 공원만 골라 넘겨받는다.
+// 좋아요 수와 id 는 건드리지 않으므로 LikedPark, ParkComment 참조가 유지된다.
+public class ParkBulkRepositoryImpl implements ParkBulkRepository {
+    private static final String SELECT_FINGERPRINTS_SQL =
+            "SELECT id, manage_no, park_nm, lnmadr, fingerprint, is_deleted FROM park";
+    private static final String INSERT_SQL =
+            "INSERT INTO park (manage_no, park_nm, lnmadr, latitude, longitude, phone_number, state, city, fingerprint, " +
+                    "is_deleted, likes_count, version, create_date, modify_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, 0, 0, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE park SET manage_no = ?, park_nm = ?, lnmadr = ?, latitude = ?, longitude = ?, phone_number = ?, " +
+                    "state = ?, city = ?, fingerprint = ?, is_deleted = false, version = version + 1, modify_date = ? " +
+                    "WHERE id = ?";
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE park SET is_deleted = true, version = version + 1, modify_date = :now WHERE id IN (:ids)";
+    private static final String SELECT_REFERENCED_SQL =
+            "SELECT park_id FROM liked_park WHERE park_id IN (:ids) UNION SELECT park_id FROM park_comment WHERE park_id IN (:ids)";
+    // 두 행을 모두 좋아요한 회원의 좋아요는 옮기지 않고 아래 DELETE 로 지운다.
+    // MariaDB 는 UPDATE 대상 테이블을 서브쿼리에서 바로 읽지 못하므로 파생 테이블로 감싼다.
+    private static final String MOVE_LIKES_SQL =
+            "UPDATE liked_park SET park_id = ? WHERE park_id = ? AND member_id NOT IN " +
+                    "(SELECT member_id FROM (SELECT member_id FROM liked_park WHERE park_id = ? AND member_id IS NOT NULL) liked)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ParkBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public List<ParkFingerprintRow> findAllFingerprints() {
+        return jdbcTemplate.query(SELECT_FINGERPRINTS_SQL, (rs, rowNum) -> new ParkFingerprintRow(
+                rs.getLong("id"),
+                rs.getString("manage_no"),
+                rs.getString("park_nm"),
+                rs.getString("lnmadr"),
+                rs.getObject("fingerprint", Long.class),
+                rs.getBoolean("is_deleted")));
+    }
+
+    @Override
+    public void insertAll(List<Park> parks) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, parks, BATCH_SIZE, (ps, park) -> {
+            ps.setString(1, park.getManageNo());
+            ps.setString(2, park.getParkNm());
+            ps.setString(3, park.getLnmadr());
+            ps.setDouble(4, park.getLatitude());
+            ps.setDouble(5, park.getLongitude());
+            ps.setString(6, park.getPhoneNumber());
+            ps.setString(7, park.getState());
+            ps.setString(8, park.getCity());
+            ps.setLong(9, park.getFingerprint());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    @Override
+    public void updateAll(List<Park> parks) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, parks, BATCH_SIZE, (ps, park) -> {
+            ps.setString(1, park.getManageNo());
+            ps.setString(2, park.getParkNm());
+            ps.setString(3, park.getLnmadr());
+            ps.setDouble(4, park.getLatitude());
+            ps.setDouble(5, park.getLongitude());
+            ps.setString(6, park.getPhoneNumber());
+            ps.setString(7, park.getState());
+            ps.setString(8, park.getCity());
+            ps.setLong(9, park.getFingerprint());
+            ps.setTimestamp(10, now);
+            ps.setLong(11, park.getId());
+        });
+    }
+
+    @Override
+    public int softDeleteAll(List<Long> ids) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("now", now, Types.TIMESTAMP)
+                    .addValue("ids", ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE)));
+            deleted += namedParameterJdbcTemplate.update(SOFT_DELETE_SQL, params);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Set<Long> moveReferences(Map<Long, String> manageNoByDuplicateId) {
+        List<Long> ids = new ArrayList<>(manageNoByDuplicateId.keySet());
+        Set<Long> referenced = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE)));
+            referenced.addAll(namedParameterJdbcTemplate.queryForList(SELECT_REFERENCED_SQL, params, Long.class));
+        }
+
+        Set<Long> unmoved = new HashSet<>();
+        for (Long duplicateId : referenced) {
+            List<Long> survivorIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM park WHERE manage_no = ? AND is_deleted = false", Long.class, manageNoByDuplicateId.get(duplicateId));
+            if (survivorIds.isEmpty()) {
+                unmoved.add(duplicateId);
+                continue;
+            }
+
+            Long survivorId = survivorIds.get(0);
+            int movedLikes = jdbcTemplate.update(MOVE_LIKES_SQL, survivorId, duplicateId, survivorId);
+            jdbcTemplate.update("DELETE FROM liked_park WHERE park_id = ?", duplicateId);
+            jdbcTemplate.update("UPDATE park_comment SET park_id = ? WHERE park_id = ?", survivorId, duplicateId);
+            if (movedLikes > 0) {
+                jdbcTemplate.update("UPDATE park SET likes_count = likes_count + ?, version = version + 1 WHERE id = ?",
+                        movedLikes, survivorId);
+            }
+        }
+        return unmoved;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ll.netmong.domain.park.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 동기화 비교용으로 읽는 공원 한 행. 관리번호가 없는 예전 행은 이름과 주소로 맞춘다.
+@Getter
+@AllArgsConstructor
+public class ParkFingerprintRow {
+    private Long id;
+    private String manageNo;
+    private String parkNm;
+    private String lnmadr;
+    private Long fingerprint;
+    private boolean deleted;
+}
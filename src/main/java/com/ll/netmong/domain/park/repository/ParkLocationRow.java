@@ -0,0 +1,9 @@
+package com.ll.netmong.domain.park.repository;
+
+public interface ParkLocationRow {
+    Long getId();
+
+    double getLatitude();
+
+    double getLongitude();
+}
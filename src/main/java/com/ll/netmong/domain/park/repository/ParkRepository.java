@@ -1,5 +1,6 @@
 package com.ll.netmong.domain.park.repository;
 
+import com.ll.netmong.domain.park.catalog.ParkCatalogRow;
 import com.ll.netmong.domain.park.entity.Park;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,15 +11,23 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface ParkRepository extends JpaRepository<Park, Long> {
-    @Query("SELECT p.state FROM Park p GROUP BY p.state ORDER BY COUNT(p.state) DESC")
+public interface ParkRepository extends JpaRepository<Park, Long>, ParkStreamRepository, ParkBulkRepository {
+    @Query("SELECT p.state FROM Park p WHERE p.isDeleted = false GROUP BY p.state ORDER BY COUNT(p.state) DESC")
     List<String> findStates();
 
-    @Query("SELECT DISTINCT p.city FROM Park p WHERE p.state = ?1 ORDER BY p.city ASC")
+    @Query("SELECT DISTINCT p.city FROM Park p WHERE p.state = ?1 AND p.isDeleted = false ORDER BY p.city ASC")
     List<String> findCitiesByState(String state);
 
     List<Park> findByLnmadrStartingWith(String stateAndCity);
 
+    @Query("SELECT new com.ll.netmong.domain.park.catalog.ParkCatalogRow(" +
+            "p.id, p.parkNm, p.lnmadr, p.latitude, p.longitude, p.phoneNumber, p.state, p.city, p.likesCount) " +
+            "FROM Park p WHERE p.isDeleted = false ORDER BY p.id")
+    List<ParkCatalogRow> findAllCatalogRows();
+
+    @Query("SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude FROM Park p WHERE p.isDeleted = false")
+    List<ParkLocationRow> findAllLocations();
+
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT p FROM Park p WHERE p.id = :parkId")
     Optional<Park> findWithOptimisticLockById(@Param("parkId") Long parkId);
@@ -0,0 +1,9 @@
+package com.ll.netmong.domain.park.repository;
+
+import com.ll.netmong.domain.park.dto.response.ParkResponse;
+
+import java.util.function.Consumer;
+
+public interface ParkStreamRepository {
+    void streamAll(Consumer<ParkResponse> consumer);
+}
@@ -0,0 +1,43 @@
+package com.ll.netmong.domain.park.repository;
+
+import com.ll.netmong.domain.park.dto.response.ParkResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+// 전체 공원을 id 순으로 한 행씩 넘긴다. fetch size 만큼씩 받아 오므로 결과 전체를 메모리에 올리지 않는다.
+public class ParkStreamRepositoryImpl implements ParkStreamRepository {
+    private static final String SELECT_SQL =
+            "SELECT id, park_nm, lnmadr, latitude, longitude, phone_number, state, city, likes_count FROM park WHERE is_deleted = false ORDER BY id";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ParkStreamRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamAll(Consumer<ParkResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            consumer.accept(ParkResponse.builder()
+                    .id(rs.getLong("id"))
+                    .parkNm(rs.getString("park_nm"))
+                    .lnmadr(rs.getString("lnmadr"))
+                    .latitude(rs.getDouble("latitude"))
+                    .longitude(rs.getDouble("longitude"))
+                    .phoneNumber(rs.getString("phone_number"))
+                    .state(rs.getString("state"))
+                    .city(rs.getString("city"))
+                    .likesCount(rs.getLong("likes_count"))
+                    .build());
+        });
+    }
+}
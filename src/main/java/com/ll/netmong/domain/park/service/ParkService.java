@@ -1,13 +1,24 @@
 package com.ll.netmong.domain.park.service;
 
+import com.ll.netmong.common.CursorResponse;
+import com.ll.netmong.domain.park.catalog.ParkListBody;
+import com.ll.netmong.domain.park.dto.response.NearbyParkResponse;
 import com.ll.netmong.domain.park.dto.response.ParkResponse;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ParkService {
     List<ParkResponse> getParks();
 
+    ParkListBody getParkListBody();
+
+    CursorResponse<ParkResponse> getParksPage(String cursor, int size);
+
+    void streamParks(OutputStream out) throws IOException;
+
     void saveParksFromApi();
 
     ParkResponse getPark(Long parkId, UserDetails userDetails);
@@ -17,4 +28,8 @@ public interface ParkService {
     List<String> getCitiesByState(String state);
 
     List<ParkResponse> getParksByStateAndCity(String state, String city);
+
+    List<NearbyParkResponse> getParksWithin(double latitude, double longitude, double radiusMeters, int size);
+
+    List<NearbyParkResponse> getNearestParks(double latitude, double longitude, int k);
 }
@@ -1,42 +1,57 @@
 package com.ll.netmong.domain.park.service;
 
-import com.ll.netmong.base.config.ApiKeys;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.netmong.common.CursorResponse;
+import com.ll.netmong.common.InvalidRequestParameterException;
+import com.ll.netmong.common.RsData;
 import com.ll.netmong.domain.likePark.repository.LikedParkRepository;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.common.AfterCommit;
+import com.ll.netmong.domain.park.catalog.ParkCatalog;
+import com.ll.netmong.domain.park.catalog.ParkCatalogSnapshot;
+import com.ll.netmong.domain.park.catalog.ParkListBody;
+import com.ll.netmong.domain.park.dto.response.NearbyParkResponse;
 import com.ll.netmong.domain.park.dto.response.ParkResponse;
 import com.ll.netmong.domain.park.entity.Park;
+import com.ll.netmong.domain.park.geo.GeoGrid;
+import com.ll.netmong.domain.park.geo.ParkGeoIndex;
+import com.ll.netmong.domain.park.ingest.ParkIngestionResult;
+import com.ll.netmong.domain.park.ingest.ParkIngestionService;
 import com.ll.netmong.domain.park.repository.ParkRepository;
 import com.ll.netmong.domain.postComment.exception.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.StringReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ParkServiceImpl implements ParkService {
+    private static final int MAX_NEARBY_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double MAX_RADIUS_METERS = 50_000;
+    // 가장 가까운 공원을 찾을 때 더 넓히지 않는 거리 (제주까지 포함하는 국내 범위)
+    private static final double NEAREST_MAX_RADIUS_METERS = 600_000;
 
     private final ParkRepository parkRepository;
-    private final ApiKeys apikeys;
     private final LikedParkRepository likedParkRepository;
     private final MemberRepository memberRepository;
+    private final ParkGeoIndex parkGeoIndex;
+    private final ParkCatalog parkCatalog;
+    private final ParkIngestionService parkIngestionService;
+    private final ObjectMapper objectMapper;
 
 // 실제 배포 시 활성화
 //    @PostConstruct
@@ -48,32 +63,82 @@ public class ParkServiceImpl implements ParkService {
 
     @Override
     public List<ParkResponse> getParks() {
-        List<Park> parks = parkRepository.findAll();
-        return convertToParkResponses(parks);
+        return parkCatalog.snapshot().getParks();
     }
 
-    @Transactional
     @Override
-    public void saveParksFromApi() {
-        List<Park> parks = new ArrayList<>();
-        int pageNo = 1;
-
-        while (true) {
-            String result = callApi(pageNo);
-            List<Park> newParks = parseParksData(result);
-            if (newParks.isEmpty()) {
-                break;
+    public ParkListBody getParkListBody() {
+        return parkCatalog.listBody();
+    }
+
+    // 커서는 이전 페이지의 마지막 공원 id 다.
+    @Override
+    public CursorResponse<ParkResponse> getParksPage(String cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestParameterException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestParameterException("잘못된 커서입니다.");
+            }
+        }
+
+        List<ParkResponse> fetched = parkCatalog.snapshot().getParksAfter(afterId, size);
+        boolean hasNext = fetched.size() > size;
+        List<ParkResponse> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+
+        return new CursorResponse<>(new SliceImpl<>(content, PageRequest.of(0, size), hasNext), nextCursor);
+    }
+
+    // 스냅샷을 거치지 않고 DB 커서에서 읽는 대로 응답에 쓴다. 응답 모양은 getParks 와 같은 RsData 다.
+    @Override
+    public void streamParks(OutputStream out) throws IOException {
+        RsData<Void> success = RsData.successOf(null);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("resultCode", success.getResultCode());
+            generator.writeStringField("msg", success.getMsg());
+            generator.writeArrayFieldStart("data");
+            try {
+                parkRepository.streamAll(park -> {
+                    try {
+                        generator.writeObject(park);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 끊으면 쓰기 실패로 커서를 닫고 멈춘다.
+                throw e.getCause();
             }
-            parks.addAll(newParks);
-            pageNo++;
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
+    }
 
-        parkRepository.saveAll(parks);
+    // 적재는 페이지마다 자기 트랜잭션으로 커밋하므로 바깥 트랜잭션을 열지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void saveParksFromApi() {
+        ParkIngestionResult result = parkIngestionService.ingest();
+        if (!result.hasChanges()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            parkCatalog.reload();
+            parkGeoIndex.rebuild();
+        });
     }
 
     @Override
     public ParkResponse getPark(Long parkId, UserDetails userDetails) {
         Park park = parkRepository.findById(parkId)
+                .filter(found -> !found.getIsDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 공원이 존재하지 않습니다: " + parkId));
 
         Member member = memberRepository.findByEmail(userDetails.getUsername())
@@ -89,95 +154,61 @@ public class ParkServiceImpl implements ParkService {
 
     @Override
     public List<String> getStates() {
-        return parkRepository.findStates();
+        return parkCatalog.snapshot().getStates();
     }
 
     @Override
     public List<String> getCitiesByState(String state) {
-        return parkRepository.findCitiesByState(state);
+        return parkCatalog.snapshot().getCitiesByState(state);
     }
 
     @Override
     public List<ParkResponse> getParksByStateAndCity(String state, String city) {
-        List<Park> parks = parkRepository.findByLnmadrStartingWith(state + " " + city);
-
-        return convertToParkResponses(parks);
+        return parkCatalog.snapshot().getParksByStateAndCity(state, city);
     }
 
-    private List<ParkResponse> convertToParkResponses(List<Park> parks) {
-        return parks.stream()
-                .map(Park::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    public List<NearbyParkResponse> getParksWithin(double latitude, double longitude, double radiusMeters, int size) {
+        validateCoordinate(latitude, longitude);
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new InvalidRequestParameterException("반경은 0 ~ " + (long) MAX_RADIUS_METERS + "m 사이여야 합니다.");
+        }
+        validateSize(size);
+
+        return toNearbyResponses(parkGeoIndex.findWithin(latitude, longitude, radiusMeters, size));
     }
 
-    private String callApi(int pageNo) {
-        String urlStr = "http://api.data.go.kr/openapi/tn_pubr_public_cty_park_info_api" +
-                "?ServiceKey=" + apikeys.getParkApiKey() +
-                "&pageNo=" + pageNo +
-                "&numOfRows=100";
-        String result;
-        try {
-            URL url = new URL(urlStr);
-            HttpURLConnection urlConnection = (HttpURLConnection) url.openConnection();
-            urlConnection.setRequestMethod("GET");
+    @Override
+    public List<NearbyParkResponse> getNearestParks(double latitude, double longitude, int k) {
+        validateCoordinate(latitude, longitude);
+        validateSize(k);
 
-            BufferedReader br = new BufferedReader(new InputStreamReader(urlConnection.getInputStream(), "UTF-8"));
+        return toNearbyResponses(parkGeoIndex.findNearest(latitude, longitude, k, NEAREST_MAX_RADIUS_METERS));
+    }
 
-            String returnLine;
-            StringBuilder resultBuilder = new StringBuilder();
+    // 색인이 거리 순으로 고른 id 를 카탈로그에서 찾는다.
+    private List<NearbyParkResponse> toNearbyResponses(GeoGrid.Neighbor[] neighbors) {
+        ParkCatalogSnapshot catalog = parkCatalog.snapshot();
 
-            while ((returnLine = br.readLine()) != null) {
-                resultBuilder.append(returnLine).append("\n\r");
+        List<NearbyParkResponse> responses = new ArrayList<>(neighbors.length);
+        for (GeoGrid.Neighbor neighbor : neighbors) {
+            ParkResponse park = catalog.findById(neighbor.getId());
+            if (park != null) {
+                responses.add(new NearbyParkResponse(park, Math.round(neighbor.getDistanceMeters())));
             }
-
-            urlConnection.disconnect();
-            result = resultBuilder.toString();
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
         }
-        return result;
+        return responses;
     }
 
-    private List<Park> parseParksData(String data) {
-        List<Park> parks = new ArrayList<>();
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new InputSource(new StringReader(data)));
-
-            NodeList nodeList = document.getElementsByTagName("item");
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
-                parks.add(createParkFromElement(element));
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+    private void validateCoordinate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidRequestParameterException("잘못된 좌표입니다: " + latitude + ", " + longitude);
         }
-        return parks;
     }
 
-    private Park createParkFromElement(Element element) {
-        String parkNm = element.getElementsByTagName("parkNm").item(0).getTextContent();
-        String lnmadr = element.getElementsByTagName("lnmadr").item(0).getTextContent();
-        String latitudeStr = element.getElementsByTagName("latitude").item(0).getTextContent();
-        double latitude = latitudeStr.isEmpty() ? 0 : Double.parseDouble(latitudeStr);
-        String longitudeStr = element.getElementsByTagName("longitude").item(0).getTextContent();
-        double longitude = longitudeStr.isEmpty() ? 0 : Double.parseDouble(longitudeStr);
-        String phoneNumber = element.getElementsByTagName("phoneNumber").item(0).getTextContent();
-        String[] lnmadrSplit = lnmadr.split("\\s");
-        String state = lnmadrSplit.length > 0 ? lnmadrSplit[0] : "";
-        String city = lnmadrSplit.length > 1 ? lnmadrSplit[1] : "";
-
-        return Park.builder()
-                .parkNm(parkNm)
-                .lnmadr(lnmadr)
-                .latitude(latitude)
-                .longitude(longitude)
-                .phoneNumber(phoneNumber)
-                .state(state)
-                .city(city)
-                .build();
+    private void validateSize(int size) {
+        if (size < 1 || size > MAX_NEARBY_SIZE) {
+            throw new InvalidRequestParameterException("조회 개수는 1 ~ " + MAX_NEARBY_SIZE + " 사이여야 합니다.");
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.ll.netmong.domain.post.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ll.netmong.domain.post.dto.response.PostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+// 게시물 상세 응답(회원별 좋아요 여부 제외)을 게시물 id 로 캐시한다.
+// Caffeine 의 W-TinyLFU 로 자주 읽히는 게시물을 남기고, 항목마다 저장 후 ttl 이 지나면 만료된다.
+// 게시물 행이 바뀌는 곳(수정/삭제, 좋아요 수·댓글 요약 반영)에서 커밋 후 해당 id 만 무효화한다.
+@Component
+public class PostDetailCache {
+    private final Cache<Long, PostResponse> cache;
+
+    public PostDetailCache(@Value("${custom.post.detail-cache.max-size:10000}") long maxSize,
+                           @Value("${custom.post.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // 같은 게시물을 동시에 읽어도 loader 는 한 번만 실행된다. loader 의 예외는 캐시되지 않는다.
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        return cache.get(postId, loader);
+    }
+
+    // 적재 중인 항목은 적재가 끝날 때까지 기다렸다가 제거되므로 무효화 이전 값이 남지 않는다.
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void invalidateAll(Collection<Long> postIds) {
+        cache.invalidateAll(postIds);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
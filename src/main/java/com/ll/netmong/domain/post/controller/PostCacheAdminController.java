@@ -0,0 +1,22 @@
+package com.ll.netmong.domain.post.controller;
+
+import com.ll.netmong.common.RsData;
+import com.ll.netmong.domain.post.cache.PostDetailCache;
+import com.ll.netmong.domain.post.dto.response.PostDetailCacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/cache")
+public class PostCacheAdminController {
+
+    private final PostDetailCache postDetailCache;
+
+    @GetMapping("/post-detail")
+    public RsData<PostDetailCacheStatsResponse> getPostDetailCacheStats() {
+        return RsData.successOf(PostDetailCacheStatsResponse.of(postDetailCache.size(), postDetailCache.stats()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ll.netmong.domain.post.controller;
 
+import com.ll.netmong.common.CursorResponse;
 import com.ll.netmong.common.PageResponse;
 import com.ll.netmong.common.RsData;
 import com.ll.netmong.domain.hashtag.service.HashtagService;
@@ -39,29 +40,52 @@ public class PostController {
     String  domain;
 
     @GetMapping("/hashtagSearch")
-    public RsData searchByHashtag(@RequestParam String hashtag, @RequestParam(defaultValue = "1") int page) {
+    public RsData searchByHashtag(@RequestParam String hashtag, @RequestParam(defaultValue = "1") int page, @AuthenticationPrincipal UserDetails userDetails) {
         Pageable pageRequest = PageRequest.of(page - 1, 5, Sort.by("modifyDate").descending());
-        Page<PostResponse> hashtagSearch = postService.searchPostsByHashtag(hashtag, pageRequest);
+        Page<PostResponse> hashtagSearch = postService.searchPostsByHashtag(hashtag, pageRequest, userDetails);
 
         return RsData.successOf(new PageResponse<>(hashtagSearch));
     }
 
     @GetMapping("/categorySearch")
-    public RsData postsSearch(@RequestParam String category, @RequestParam String searchWord, @RequestParam(defaultValue = "1") int page) {
+    public RsData postsSearch(@RequestParam String category, @RequestParam String searchWord, @RequestParam(defaultValue = "1") int page, @AuthenticationPrincipal UserDetails userDetails) {
         Pageable pageRequest = PageRequest.of(page - 1, 5, Sort.by("modifyDate").descending());
-        Page<PostResponse> categorySearch = postService.searchPostsByCategory(category, searchWord, pageRequest);
+        Page<PostResponse> categorySearch = postService.searchPostsByCategory(category, searchWord, pageRequest, userDetails);
 
         return RsData.successOf(new PageResponse<>(categorySearch));
     }
 
     @GetMapping("/view")
-    public RsData postsViewByPage(@RequestParam(defaultValue = "1") int page) {
+    public RsData postsViewByPage(@RequestParam(defaultValue = "1") int page, @AuthenticationPrincipal UserDetails userDetails) {
         Pageable pageRequest = PageRequest.of(page - 1, 5, Sort.by("modifyDate").descending());
-        Page<PostResponse> postsView = postService.viewPostsByPage(pageRequest);
+        Page<PostResponse> postsView = postService.viewPostsByPage(pageRequest, userDetails);
 
         return RsData.successOf(new PageResponse<>(postsView));
     }
 
+    @GetMapping("/hashtagSearch/cursor")
+    public RsData<CursorResponse<PostResponse>> searchByHashtagWithCursor(@RequestParam String hashtag, @RequestParam(required = false) String cursor,
+                                                                        @AuthenticationPrincipal UserDetails userDetails) {
+        CursorResponse<PostResponse> hashtagSearch = postService.searchPostsByHashtagWithCursor(hashtag, cursor, 5, userDetails);
+
+        return RsData.successOf(hashtagSearch);
+    }
+
+    @GetMapping("/categorySearch/cursor")
+    public RsData<CursorResponse<PostResponse>> postsSearchWithCursor(@RequestParam String category, @RequestParam String searchWord, @RequestParam(required = false) String cursor,
+                                                                      @AuthenticationPrincipal UserDetails userDetails) {
+        CursorResponse<PostResponse> categorySearch = postService.searchPostsByCategoryWithCursor(category, searchWord, cursor, 5, userDetails);
+
+        return RsData.successOf(categorySearch);
+    }
+
+    @GetMapping("/view/cursor")
+    public RsData<CursorResponse<PostResponse>> postsViewByCursor(@RequestParam(required = false) String cursor, @AuthenticationPrincipal UserDetails userDetails) {
+        CursorResponse<PostResponse> postsView = postService.viewPostsByCursor(cursor, 5, userDetails);
+
+        return RsData.successOf(postsView);
+    }
+
     @PostMapping("/upload")
     @ResponseStatus(HttpStatus.CREATED)
     public RsData postUpload(@AuthenticationPrincipal UserDetails userDetails, MultipartFile image, PostRequest postRequest) throws Exception {
@@ -114,18 +138,19 @@ public class PostController {
         Long memberId = memberService.findByEmail(userDetails.getUsername()).getId();
 
         Pageable pageRequest = PageRequest.of(page - 1, 5);
-        Page<PostResponse> myPosts = postService.viewPostsByMemberId(memberId, pageRequest);
+        Page<PostResponse> myPosts = postService.viewPostsByMemberId(memberId, pageRequest, userDetails);
         return RsData.successOf(new PageResponse<>(myPosts));
     }
 
     @GetMapping("/member/{username}")
     @ResponseStatus(HttpStatus.OK)
-    public RsData<PageResponse<PostResponse>> viewMemberWrittenPosts(@PathVariable String username, @RequestParam(defaultValue = "1") int page) throws Exception {
+    public RsData<PageResponse<PostResponse>> viewMemberWrittenPosts(@PathVariable String username, @RequestParam(defaultValue = "1") int page,
+                                                                     @AuthenticationPrincipal UserDetails userDetails) throws Exception {
 
         Long memberId = memberService.findByUsername(username).getId();
 
         Pageable pageRequest = PageRequest.of(page - 1, 5);
-        Page<PostResponse> myPosts = postService.viewPostsByMemberId(memberId, pageRequest);
+        Page<PostResponse> myPosts = postService.viewPostsByMemberId(memberId, pageRequest, userDetails);
         return RsData.successOf(new PageResponse<>(myPosts));
     }
 }
@@ -0,0 +1,45 @@
+package com.ll.netmong.domain.post.dto.request;
+
+import com.ll.netmong.common.InvalidRequestParameterException;
+import com.ll.netmong.domain.post.entity.Post;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+// (modifyDate, id) 기준 keyset 페이지네이션 커서 - 클라이언트에는 base64url 토큰으로만 노출한다.
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+    // 첫 페이지는 모든 게시물보다 뒤에 있는 가상의 위치에서 시작한다.
+    private static final PostCursor FIRST = new PostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime modifyDate;
+    private final Long id;
+
+    public static PostCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestParameterException("잘못된 커서입니다.");
+        }
+    }
+
+    public static String encode(Post post) {
+        // DB 컬럼 정밀도(datetime(6))에 맞춰 마이크로초 이하를 버린다.
+        String raw = post.getModifyDate().truncatedTo(ChronoUnit.MICROS) + DELIMITER + post.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.ll.netmong.domain.post.dto.response;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostDetailCacheStatsResponse {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long loadFailureCount;
+    private double averageLoadPenaltyMillis;
+
+    public static PostDetailCacheStatsResponse of(long size, CacheStats stats) {
+        return new PostDetailCacheStatsResponse(
+                size,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / 1_000_000.0
+        );
+    }
+}
@@ -1,11 +1,13 @@
 package com.ll.netmong.domain.post.dto.response;
 
 import com.ll.netmong.domain.image.entity.Image;
+import com.ll.netmong.domain.post.entity.CommentPreview;
 import com.ll.netmong.domain.post.entity.Post;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 
 @Getter
@@ -19,6 +21,8 @@ public class PostResponse {
     String createDate;
     private Long likesCount;
     private Boolean isLiked;
+    private Long commentsCount;
+    private List<CommentPreview> latestComments;
 
     public PostResponse(Post post) {
         this.postId = post.getId();
@@ -30,6 +34,26 @@ public class PostResponse {
                 .orElse(null);
         this.createDate = post.getCreateDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         this.likesCount = post.getLikesCount();
+        this.commentsCount = post.getCommentsCount();
+        this.latestComments = post.getLatestComments();
+    }
+
+    private PostResponse(PostResponse origin, Boolean isLiked) {
+        this.postId = origin.postId;
+        this.title = origin.title;
+        this.writer = origin.writer;
+        this.content = origin.content;
+        this.imageUrl = origin.imageUrl;
+        this.createDate = origin.createDate;
+        this.likesCount = origin.likesCount;
+        this.isLiked = isLiked;
+        this.commentsCount = origin.commentsCount;
+        this.latestComments = origin.latestComments;
+    }
+
+    // 캐시된 응답은 공유되므로 회원별 값은 복사본에 채운다.
+    public PostResponse withIsLiked(Boolean isLiked) {
+        return new PostResponse(this, isLiked);
     }
 
     public static PostResponse postsView (Post post) {
@@ -0,0 +1,15 @@
+package com.ll.netmong.domain.post.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시물 목록에 함께 내려주는 최근 댓글 미리보기
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPreview {
+    private Long commentId;
+    private String username;
+    private String content;
+}
@@ -0,0 +1,39 @@
+package com.ll.netmong.domain.post.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 최근 댓글 미리보기를 post.latest_comments 컬럼에 JSON 배열로 저장한다.
+@Converter
+public class CommentPreviewsConverter implements AttributeConverter<List<CommentPreview>, String> {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<List<CommentPreview>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<CommentPreview> previews) {
+        try {
+            return objectMapper.writeValueAsString(previews == null ? List.of() : previews);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("최근 댓글을 저장할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<CommentPreview> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("최근 댓글을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @SuperBuilder(toBuilder = true)
+@Table(indexes = @Index(name = "idx_post_modify_date_id", columnList = "modifyDate, id"))
 @SQLDelete(sql = "UPDATE post SET status = 'N' where id = ?")
 @Where(clause = "status = 'Y'")
 public class Post extends BaseEntity {
@@ -52,23 +53,33 @@ public class Post extends BaseEntity {
         comment.setPost(this);
     }
 
+    // 좋아요 수는 PostLikeCountBuffer 가 모아서 반영하므로 엔티티 변경 감지로는 갱신하지 않는다.
     @Builder.Default
-    @Column(name = "likes_count", nullable = false)
+    @Column(name = "likes_count", nullable = false, updatable = false)
     private Long likesCount = 0L;
 
+    // 댓글 수와 최근 댓글 미리보기는 PostCommentSummaryBuffer 가 모아서 반영한다.
+    // 목록 조회 시 post_comment 를 읽지 않기 위한 비정규화 컬럼이다.
+    @Builder.Default
+    @Column(name = "comments_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long commentsCount = 0L;
+
+    @Builder.Default
+    @Convert(converter = CommentPreviewsConverter.class)
+    @Column(name = "latest_comments", length = 2000, updatable = false)
+    private List<CommentPreview> latestComments = new ArrayList<>();
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
     private List<LikedPost> likes = new ArrayList<>();
 
     public void addLike(LikedPost like) {
         this.likes.add(like);
         like.setPost(this);
-        this.likesCount++;  // 좋아요 수 증가
     }
 
     public void removeLike(LikedPost like) {
         this.likes.remove(like);
         like.setPost(null);
-        this.likesCount--;  // 좋아요 수 감소
     }
 
     @OneToMany(mappedBy = "post")
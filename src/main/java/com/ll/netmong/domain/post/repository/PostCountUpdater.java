@@ -0,0 +1,47 @@
+package com.ll.netmong.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 여러 게시물의 카운터 컬럼에 변화량을 UPDATE 한 번으로 더한다.
+@Repository
+@RequiredArgsConstructor
+public class PostCountUpdater {
+    private final JdbcTemplate jdbcTemplate;
+
+    public enum Counter {
+        LIKES("likes_count"),
+        COMMENTS("comments_count");
+
+        private final String column;
+
+        Counter(String column) {
+            this.column = column;
+        }
+    }
+
+    // UPDATE post SET <column> = <column> + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+    public void addDeltas(Counter counter, List<Map.Entry<Long, Long>> deltas) {
+        StringBuilder sql = new StringBuilder("UPDATE post SET ")
+                .append(counter.column).append(" = ").append(counter.column).append(" + CASE id");
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+
+        for (Map.Entry<Long, Long> entry : deltas) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(deltas.size(), "?")))
+                .append(")");
+        deltas.forEach(entry -> args.add(entry.getKey()));
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
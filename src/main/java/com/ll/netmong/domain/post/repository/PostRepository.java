@@ -1,12 +1,17 @@
 package com.ll.netmong.domain.post.repository;
 
 import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.search.PostSearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -18,10 +23,47 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByWriterContaining(String searchWord, Pageable pageable);
 
     Page<Post> findByContentContaining(String searchWord, Pageable pageable);
+
+    Page<Post> findByTitleContaining(String searchWord, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.member.id IN :memberIds AND p.id < :cursor ORDER BY p.id DESC")
+    List<Long> findIdsByMemberIdInBefore(@Param("memberIds") Collection<Long> memberIds, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content, p.writer AS writer, p.modifyDate AS modifyDate FROM Post p")
+    List<PostSearchDocument> findAllSearchDocuments();
   
     Long countByMemberIdAndDeleteDateIsNull(@Param("memberId") Long memberId);
 
     @Query("SELECT p FROM Post p JOIN p.names ph WHERE ph.name = :hashtag")
     Page<Post> findByHashtagName(@Param("hashtag") String hashtag, Pageable pageable);
 
+    // keyset 페이지네이션 - Slice 를 반환하므로 count 쿼리가 실행되지 않는다.
+    @Query("SELECT p FROM Post p WHERE p.modifyDate < :modifyDate OR (p.modifyDate = :modifyDate AND p.id < :id) " +
+            "ORDER BY p.modifyDate DESC, p.id DESC")
+    Slice<Post> findSliceByCursor(@Param("modifyDate") LocalDateTime modifyDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN p.names ph WHERE ph.name = :hashtag " +
+            "AND (p.modifyDate < :modifyDate OR (p.modifyDate = :modifyDate AND p.id < :id)) " +
+            "ORDER BY p.modifyDate DESC, p.id DESC")
+    Slice<Post> findSliceByHashtagNameAndCursor(@Param("hashtag") String hashtag, @Param("modifyDate") LocalDateTime modifyDate,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.writer LIKE %:searchWord% " +
+            "AND (p.modifyDate < :modifyDate OR (p.modifyDate = :modifyDate AND p.id < :id)) " +
+            "ORDER BY p.modifyDate DESC, p.id DESC")
+    Slice<Post> findSliceByWriterContainingAndCursor(@Param("searchWord") String searchWord, @Param("modifyDate") LocalDateTime modifyDate,
+                                                     @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.content LIKE %:searchWord% " +
+            "AND (p.modifyDate < :modifyDate OR (p.modifyDate = :modifyDate AND p.id < :id)) " +
+            "ORDER BY p.modifyDate DESC, p.id DESC")
+    Slice<Post> findSliceByContentContainingAndCursor(@Param("searchWord") String searchWord, @Param("modifyDate") LocalDateTime modifyDate,
+                                                      @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.title LIKE %:searchWord% " +
+            "AND (p.modifyDate < :modifyDate OR (p.modifyDate = :modifyDate AND p.id < :id)) " +
+            "ORDER BY p.modifyDate DESC, p.id DESC")
+    Slice<Post> findSliceByTitleContainingAndCursor(@Param("searchWord") String searchWord, @Param("modifyDate") LocalDateTime modifyDate,
+                                                    @Param("id") Long id, Pageable pageable);
+
 }
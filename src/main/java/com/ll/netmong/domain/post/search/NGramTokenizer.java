@@ -0,0 +1,51 @@
+package com.ll.netmong.domain.post.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 한글은 음절 단위로 잘라야 부분 검색이 되므로 형태소 분석 대신 1-gram / 2-gram 을 사용한다.
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    // 자모가 분리되어 들어온 입력(NFD)도 완성형 음절로 합치고, 대소문자를 구분하지 않는다.
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    // 색인용: 모든 1-gram 과 2-gram
+    public static Set<String> indexTokens(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+
+        for (int i = 0; i < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색용: 한 글자면 1-gram, 그 이상이면 2-gram 만 사용한다.
+    public static Set<String> queryTokens(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> tokens = new LinkedHashSet<>();
+
+        if (codePoints.length == 1) {
+            tokens.add(new String(codePoints, 0, 1));
+            return tokens;
+        }
+
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ll.netmong.domain.post.search;
+
+import java.time.LocalDateTime;
+
+// 색인 적재용 프로젝션 - 엔티티와 연관관계를 로딩하지 않는다.
+public interface PostSearchDocument {
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+
+    String getWriter();
+
+    LocalDateTime getModifyDate();
+}
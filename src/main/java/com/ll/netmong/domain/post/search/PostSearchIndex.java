@@ -0,0 +1,203 @@
+package com.ll.netmong.domain.post.search;
+
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시물 제목/내용/작성자에 대한 메모리 역색인.
+// 2-gram 교집합으로 후보를 좁힌 뒤 원문 contains 로 검증하므로 LIKE '%word%' 와 같은 결과를 낸다.
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private static final Comparator<IndexedPost> RECENT_FIRST = Comparator
+            .comparing((IndexedPost post) -> post.modifyDate).reversed()
+            .thenComparing(post -> post.id, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    private final Map<SearchField, Map<String, Set<Long>>> postings = new EnumMap<>(SearchField.class);
+    private final Set<Long> removedBeforeReady = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<PostSearchDocument> posts = postRepository.findAllSearchDocuments();
+
+        lock.writeLock().lock();
+        try {
+            // 적재 중에 실시간으로 반영된 게시물은 덮어쓰지 않는다.
+            for (PostSearchDocument post : posts) {
+                if (!documents.containsKey(post.getId()) && !removedBeforeReady.contains(post.getId())) {
+                    put(new IndexedPost(post.getId(), post.getModifyDate(), post.getTitle(), post.getContent(), post.getWriter()));
+                }
+            }
+            removedBeforeReady.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("게시물 검색 색인 적재 완료: {}건", posts.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Post post) {
+        IndexedPost indexedPost = new IndexedPost(post.getId(), post.getModifyDate(), post.getTitle(), post.getContent(), post.getWriter());
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(post.getId());
+            put(indexedPost);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            // 적재 전에 삭제된 게시물이 조회 스냅샷에 남아 있어도 다시 색인되지 않도록 기록해 둔다.
+            if (!ready) {
+                removedBeforeReady.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 최신순(modifyDate, id 내림차순)으로 정렬된 일치 게시물 id 전체
+    public List<Long> search(SearchField field, String word) {
+        return search(field, word, LocalDateTime.MAX, Long.MAX_VALUE);
+    }
+
+    // (modifyDate, id) 커서보다 오래된 일치 게시물 id
+    public List<Long> search(SearchField field, String word, LocalDateTime modifyDate, Long id) {
+        String query = NGramTokenizer.normalize(word);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<IndexedPost> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Long candidate : candidates(field, query)) {
+                IndexedPost post = documents.get(candidate);
+                if (post.text(field).contains(query) && post.isBefore(modifyDate, id)) {
+                    matches.add(post);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(RECENT_FIRST);
+        return matches.stream().map(post -> post.id).toList();
+    }
+
+    private Collection<Long> candidates(SearchField field, String query) {
+        Map<String, Set<Long>> fieldPostings = postings.getOrDefault(field, Map.of());
+        List<Set<Long>> lists = new ArrayList<>();
+
+        for (String token : NGramTokenizer.queryTokens(query)) {
+            Set<Long> posting = fieldPostings.get(token);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+
+        // 가장 짧은 posting list 를 기준으로 교집합을 구한다.
+        lists.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+
+        for (Long postId : lists.get(0)) {
+            boolean containsAll = true;
+            for (int i = 1; i < lists.size() && containsAll; i++) {
+                containsAll = lists.get(i).contains(postId);
+            }
+            if (containsAll) {
+                result.add(postId);
+            }
+        }
+        return result;
+    }
+
+    private void put(IndexedPost post) {
+        documents.put(post.id, post);
+
+        for (SearchField field : SearchField.values()) {
+            Map<String, Set<Long>> fieldPostings = postings.computeIfAbsent(field, key -> new HashMap<>());
+            for (String token : NGramTokenizer.indexTokens(post.text(field))) {
+                fieldPostings.computeIfAbsent(token, key -> new HashSet<>()).add(post.id);
+            }
+        }
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedPost post = documents.remove(postId);
+        if (post == null) {
+            return;
+        }
+
+        for (SearchField field : SearchField.values()) {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String token : NGramTokenizer.indexTokens(post.text(field))) {
+                Set<Long> posting = fieldPostings.get(token);
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    fieldPostings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static class IndexedPost {
+        private final Long id;
+        private final LocalDateTime modifyDate;
+        private final String title;
+        private final String content;
+        private final String writer;
+
+        private IndexedPost(Long id, LocalDateTime modifyDate, String title, String content, String writer) {
+            this.id = id;
+            // 커서(PostCursor)와 같은 마이크로초 정밀도로 비교한다.
+            this.modifyDate = modifyDate == null ? LocalDateTime.MIN : modifyDate.truncatedTo(ChronoUnit.MICROS);
+            this.title = NGramTokenizer.normalize(title);
+            this.content = NGramTokenizer.normalize(content);
+            this.writer = NGramTokenizer.normalize(writer);
+        }
+
+        private String text(SearchField field) {
+            return switch (field) {
+                case TITLE -> title;
+                case CONTENT -> content;
+                case WRITER -> writer;
+            };
+        }
+
+        private boolean isBefore(LocalDateTime cursorDate, Long cursorId) {
+            int compared = modifyDate.compareTo(cursorDate);
+            return compared < 0 || (compared == 0 && id < cursorId);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ll.netmong.domain.post.search;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum SearchField {
+    TITLE("제목"),
+    CONTENT("내용"),
+    WRITER("작성자");
+
+    private final String category;
+
+    SearchField(String category) {
+        this.category = category;
+    }
+
+    public static Optional<SearchField> fromCategory(String category) {
+        return Arrays.stream(values())
+                .filter(field -> field.category.equals(category))
+                .findFirst();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ll.netmong.domain.post.service;
 
+import com.ll.netmong.common.CursorResponse;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.post.dto.request.PostRequest;
 import com.ll.netmong.domain.post.dto.request.UpdatePostRequest;
@@ -13,14 +14,17 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 
 public interface PostService {
-    Page<PostResponse> searchPostsByHashtag (String hashtag, Pageable pageable);
-    Page<PostResponse> searchPostsByCategory(String category, String searchWord, Pageable pageable);
-    Page<PostResponse> viewPostsByPage(Pageable pageable);
+    Page<PostResponse> searchPostsByHashtag (String hashtag, Pageable pageable, UserDetails userDetails);
+    Page<PostResponse> searchPostsByCategory(String category, String searchWord, Pageable pageable, UserDetails userDetails);
+    Page<PostResponse> viewPostsByPage(Pageable pageable, UserDetails userDetails);
+    CursorResponse<PostResponse> searchPostsByHashtagWithCursor(String hashtag, String cursor, int size, UserDetails userDetails);
+    CursorResponse<PostResponse> searchPostsByCategoryWithCursor(String category, String searchWord, String cursor, int size, UserDetails userDetails);
+    CursorResponse<PostResponse> viewPostsByCursor(String cursor, int size, UserDetails userDetails);
     Post uploadPostWithImage(PostRequest postRequest, MultipartFile image, Member foundMember) throws IOException;
     PostResponse getDetail(Long id, UserDetails userDetails);
     void updatePostWithImage(Long id, UpdatePostRequest updatePostRequest, MultipartFile image) throws IOException;
     void deletePost(Long postId, String foundUsername);
 
     Post findByPostId(Long postId);
-    Page<PostResponse> viewPostsByMemberId(Long memberId, Pageable pageable);
+    Page<PostResponse> viewPostsByMemberId(Long memberId, Pageable pageable, UserDetails userDetails);
 }
@@ -1,20 +1,32 @@
 package com.ll.netmong.domain.post.service;
 
+import com.ll.netmong.common.AfterCommit;
+import com.ll.netmong.common.CursorResponse;
 import com.ll.netmong.common.PermissionDeniedException;
+import com.ll.netmong.domain.hashtag.posting.HashtagPostings;
 import com.ll.netmong.domain.image.service.ImageService;
-import com.ll.netmong.domain.likedPost.repository.LikedPostRepository;
+import com.ll.netmong.domain.likedPost.service.LikedPostCache;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.domain.post.cache.PostDetailCache;
+import com.ll.netmong.domain.post.dto.request.PostCursor;
 import com.ll.netmong.domain.post.dto.request.PostRequest;
 import com.ll.netmong.domain.post.dto.request.UpdatePostRequest;
 import com.ll.netmong.domain.post.dto.response.PostResponse;
 import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.post.search.PostSearchIndex;
+import com.ll.netmong.domain.post.search.SearchField;
 import com.ll.netmong.domain.postComment.exception.DataNotFoundException;
+import com.ll.netmong.domain.timeline.service.TimelineService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,51 +34,167 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
-    private final LikedPostRepository likedPostRepository;
-    private final MemberRepository memberRepository;
+    private final LikedPostCache likedPostCache;
     private final ImageService imageService;
+    private final PostSearchIndex postSearchIndex;
+    private final HashtagPostings hashtagPostings;
+    private final TimelineService timelineService;
+    private final MemberRepository memberRepository;
+    private final PostDetailCache postDetailCache;
 
     @Override
-    public Page<PostResponse> searchPostsByHashtag (String hashtag, Pageable pageable) {
+    public Page<PostResponse> searchPostsByHashtag (String hashtag, Pageable pageable, UserDetails userDetails) {
+        if (hashtagPostings.isReady()) {
+            // 해시태그별 최신순 id 목록을 잘라 한 번에 조회한다.
+            List<Long> postIds = hashtagPostings.findPostIds(hashtag, (int) pageable.getOffset(), pageable.getPageSize());
+            return toPageResponse(new PageImpl<>(findAllInOrder(postIds), pageable, hashtagPostings.count(hashtag)), userDetails);
+        }
+
         Page<Post> postsHashtag = postRepository.findByHashtagName(hashtag, pageable);
-        return postsHashtag.map(PostResponse::postsView);
+        return toPageResponse(postsHashtag, userDetails);
     }
 
     @Override
-    public Page<PostResponse> searchPostsByCategory(String category, String searchWord, Pageable pageable) {
+    public Page<PostResponse> searchPostsByCategory(String category, String searchWord, Pageable pageable, UserDetails userDetails) {
+        Optional<SearchField> field = SearchField.fromCategory(category);
+        if (field.isPresent() && postSearchIndex.isReady()) {
+            List<Long> postIds = postSearchIndex.search(field.get(), searchWord);
+            int from = (int) Math.min(pageable.getOffset(), postIds.size());
+            int to = Math.min(from + pageable.getPageSize(), postIds.size());
+
+            return toPageResponse(new PageImpl<>(findAllInOrder(postIds.subList(from, to)), pageable, postIds.size()), userDetails);
+        }
+
+        // 색인 적재 전에는 DB LIKE 검색으로 처리한다.
         Map<String, BiFunction<String, Pageable, Page<Post>>> searchByCategory = new HashMap<>(); //BiFunction<String, Pageable, Page<Post>> - String, Pageable 매개변수를 받아 Page<Post> 반환
         searchByCategory.put("작성자", (word, page) -> postRepository.findByWriterContaining(word, page));
         searchByCategory.put("내용", (word, page) -> postRepository.findByContentContaining(word, page));
+        searchByCategory.put("제목", (word, page) -> postRepository.findByTitleContaining(word, page));
 
         BiFunction<String, Pageable, Page<Post>> searchingPosts = searchByCategory.getOrDefault(category, (word, page) -> Page.empty());
         Page<Post> posts = searchingPosts.apply(searchWord, pageable);
 
-        return posts.map(PostResponse::postsView);
+        return toPageResponse(posts, userDetails);
     }
 
     @Override
-    public Page<PostResponse> viewPostsByPage(Pageable pageable) {
+    public Page<PostResponse> viewPostsByPage(Pageable pageable, UserDetails userDetails) {
         Page<Post> postsPage = postRepository.findAll(pageable);
 
-        return postsPage.map(PostResponse::postsView);
+        return toPageResponse(postsPage, userDetails);
+    }
+
+    @Override
+    public CursorResponse<PostResponse> searchPostsByHashtagWithCursor(String hashtag, String cursor, int size, UserDetails userDetails) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        Slice<Post> posts = postRepository.findSliceByHashtagNameAndCursor(hashtag, postCursor.getModifyDate(), postCursor.getId(), PageRequest.of(0, size));
+
+        return toCursorResponse(posts, userDetails);
+    }
+
+    @Override
+    public CursorResponse<PostResponse> searchPostsByCategoryWithCursor(String category, String searchWord, String cursor, int size, UserDetails userDetails) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+
+        Optional<SearchField> field = SearchField.fromCategory(category);
+        if (field.isPresent() && postSearchIndex.isReady()) {
+            List<Long> postIds = postSearchIndex.search(field.get(), searchWord, postCursor.getModifyDate(), postCursor.getId());
+            boolean hasNext = postIds.size() > size;
+
+            return toCursorResponse(new SliceImpl<>(findAllInOrder(postIds.subList(0, Math.min(size, postIds.size()))), pageable, hasNext), userDetails);
+        }
+
+        Map<String, Function<String, Slice<Post>>> searchByCategory = new HashMap<>();
+        searchByCategory.put("작성자", word -> postRepository.findSliceByWriterContainingAndCursor(word, postCursor.getModifyDate(), postCursor.getId(), pageable));
+        searchByCategory.put("내용", word -> postRepository.findSliceByContentContainingAndCursor(word, postCursor.getModifyDate(), postCursor.getId(), pageable));
+        searchByCategory.put("제목", word -> postRepository.findSliceByTitleContainingAndCursor(word, postCursor.getModifyDate(), postCursor.getId(), pageable));
+
+        Function<String, Slice<Post>> searchingPosts = searchByCategory.getOrDefault(category, word -> new SliceImpl<>(List.of(), pageable, false));
+
+        return toCursorResponse(searchingPosts.apply(searchWord), userDetails);
+    }
+
+    @Override
+    public CursorResponse<PostResponse> viewPostsByCursor(String cursor, int size, UserDetails userDetails) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        Slice<Post> posts = postRepository.findSliceByCursor(postCursor.getModifyDate(), postCursor.getId(), PageRequest.of(0, size));
+
+        return toCursorResponse(posts, userDetails);
+    }
+
+    // 색인이 정한 순서를 유지한 채 게시물을 한 번에 조회한다.
+    private List<Post> findAllInOrder(List<Long> postIds) {
+        Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Page<PostResponse> toPageResponse(Page<Post> posts, UserDetails userDetails) {
+        Page<PostResponse> responses = posts.map(PostResponse::postsView);
+        markLiked(responses.getContent(), userDetails);
+
+        return responses;
+    }
+
+    private CursorResponse<PostResponse> toCursorResponse(Slice<Post> posts, UserDetails userDetails) {
+        String nextCursor = posts.hasNext()
+                ? PostCursor.encode(posts.getContent().get(posts.getNumberOfElements() - 1))
+                : null;
+
+        Slice<PostResponse> responses = posts.map(PostResponse::postsView);
+        markLiked(responses.getContent(), userDetails);
+
+        return new CursorResponse<>(responses, nextCursor);
+    }
+
+    // 페이지 전체의 좋아요 여부를 게시물마다 조회하지 않고 회원별 좋아요 비트맵에서 한 번에 채운다.
+    private void markLiked(List<PostResponse> responses, UserDetails userDetails) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        Set<Long> likedPostIds = Objects.isNull(userDetails)
+                ? Set.of()
+                : likedPostCache.findLikedPostIds(userDetails.getUsername(),
+                        responses.stream().map(PostResponse::getPostId).toList());
+
+        responses.forEach(response -> response.setIsLiked(likedPostIds.contains(response.getPostId())));
     }
 
     private Post uploadPost(PostRequest postRequest, Member foundMember) {
-        return postRepository.save(Post.builder()
+        Post post = postRepository.save(Post.builder()
                 .title(postRequest.getTitle())
                 .member(foundMember)
                 .writer(foundMember.getUsername())
                 .content(postRequest.getContent())
                 .build());
+        changePostsCount(foundMember, 1);
+
+        return post;
+    }
+
+    private void changePostsCount(Member member, long delta) {
+        memberRepository.addPostsCount(member.getId(), delta);
+        member.addPostsCount(delta);
     }
 
     @Override
@@ -78,23 +206,20 @@ public class PostServiceImpl implements PostService {
 
         Post post = uploadPost(postRequest, foundMember);
         post.addPostImage(imageService.uploadImage(post, image).orElseThrow());
+        timelineService.fanOut(post);
+        AfterCommit.run(() -> postSearchIndex.index(post));
 
         return post;
     }
 
     @Override
     public PostResponse getDetail(Long id, UserDetails userDetails) {
-        Post originPost = postRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("포스트를 찾을 수 없습니다."));
-
-        Member member = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new DataNotFoundException("사용자를 찾을 수 없습니다."));
-        boolean isLiked = likedPostRepository.existsByMemberAndPost(member, originPost);
+        PostResponse cached = postDetailCache.get(id, postId -> new PostResponse(postRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("포스트를 찾을 수 없습니다."))));
 
-        PostResponse postResponse = new PostResponse(originPost);
-        postResponse.setIsLiked(isLiked);
+        boolean isLiked = likedPostCache.isLiked(userDetails.getUsername(), id);
 
-        return postResponse;
+        return cached.withIsLiked(isLiked);
     }
 
     @Override
@@ -105,6 +230,11 @@ public class PostServiceImpl implements PostService {
 
         if (originPost.getMember().getUsername().equals(foundUsername)) {
             postRepository.deleteById(postId);
+            changePostsCount(originPost.getMember(), -1);
+            AfterCommit.run(() -> {
+                postSearchIndex.remove(postId);
+                postDetailCache.invalidate(postId);
+            });
         } else {
             throw new PermissionDeniedException("해당 포스트에 대한 삭제 권한이 없습니다.");
         }
@@ -133,13 +263,17 @@ public class PostServiceImpl implements PostService {
 
         Post post = updatePost(id, updatePostRequest);
         post.addPostImage(imageService.uploadImage(post, image).orElseThrow());
+        AfterCommit.run(() -> {
+            postSearchIndex.index(post);
+            postDetailCache.invalidate(id);
+        });
     }
 
     @Override
-    public Page<PostResponse> viewPostsByMemberId(Long memberId, Pageable pageable) {
+    public Page<PostResponse> viewPostsByMemberId(Long memberId, Pageable pageable, UserDetails userDetails) {
         Page<Post> posts = postRepository.findByMemberIdAndDeleteDateIsNullOrderByCreateDateDesc(memberId, pageable);
 
-        return posts.map(PostResponse::new);
+        return toPageResponse(posts, userDetails);
     }
 
     @Override
@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -36,4 +38,40 @@ public class PostCommentResponse {
                 childResponses
         );
     }
+
+    // 최상위 댓글과 그 아래 모든 대댓글을 받아 트리를 한 번의 순회로 만든다.
+    // descendants 는 id 순이어야 한다. (부모 댓글은 항상 자식보다 먼저 저장되므로 id 가 작다)
+    public static List<PostCommentResponse> treeOf(List<PostComment> roots, List<PostComment> descendants) {
+        Map<Long, PostCommentResponse> responses = new HashMap<>();
+        List<PostCommentResponse> rootResponses = new ArrayList<>(roots.size());
+        for (PostComment root : roots) {
+            PostCommentResponse response = single(root, null);
+            responses.put(root.getId(), response);
+            rootResponses.add(response);
+        }
+
+        for (PostComment comment : descendants) {
+            // 프록시에서 id 만 꺼내므로 부모 댓글을 다시 조회하지 않는다.
+            Long parentId = comment.getParentComment().getId();
+            PostCommentResponse parent = responses.get(parentId);
+            if (parent == null) {
+                continue;
+            }
+            PostCommentResponse response = single(comment, parentId);
+            responses.put(comment.getId(), response);
+            parent.getChildCommentsIds().add(response);
+        }
+        return rootResponses;
+    }
+
+    private static PostCommentResponse single(PostComment comment, Long parentId) {
+        return new PostCommentResponse(
+                comment.getId(),
+                comment.getContent(),
+                comment.getIsDeleted(),
+                comment.getUsername(),
+                parentId,
+                new ArrayList<>()
+        );
+    }
 }
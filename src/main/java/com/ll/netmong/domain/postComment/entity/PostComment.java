@@ -19,6 +19,7 @@ import java.util.List;
 @Getter
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_post_comment_root_id", columnList = "root_id"))
 public class PostComment extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,9 +39,14 @@ public class PostComment extends BaseEntity {
     @JsonIgnore
     private PostComment parentComment;
 
+    @Builder.Default
     @OneToMany(mappedBy = "parentComment", orphanRemoval = true)
     private List<PostComment> childComments = new ArrayList<>();
 
+    // 최상위 댓글 id. 대댓글 트리 전체를 한 번에 조회하기 위해 둔다. (최상위 댓글 자신은 null)
+    @Column(name = "root_id")
+    private Long rootId;
+
     @ManyToOne
     @JoinColumn(name = "member_id")
     private Member memberID;
@@ -66,6 +72,11 @@ public class PostComment extends BaseEntity {
     public void addChildComment(PostComment childComment) {
         this.childComments.add(childComment);
         childComment.setParentComment(this);
+        childComment.rootId = this.rootId != null ? this.rootId : this.getId();
+    }
+
+    public void assignRoot(Long rootId) {
+        this.rootId = rootId;
     }
 
     public void markAsDeleted(Boolean b) {
@@ -0,0 +1,9 @@
+package com.ll.netmong.domain.postComment.repository;
+
+public interface CommentParentRow {
+    Long getId();
+
+    Long getParentId();
+
+    Long getRootId();
+}
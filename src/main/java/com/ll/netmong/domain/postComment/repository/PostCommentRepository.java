@@ -4,9 +4,28 @@ import com.ll.netmong.domain.postComment.entity.PostComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
     Page<PostComment> findByPostIdAndParentCommentIsNull(Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM PostComment c WHERE c.rootId IN :rootIds ORDER BY c.id")
+    List<PostComment> findAllByRootIdIn(@Param("rootIds") Collection<Long> rootIds);
+
+    boolean existsByParentCommentIsNotNullAndRootIdIsNull();
+
+    @Query("SELECT c.id AS id, c.parentComment.id AS parentId, c.rootId AS rootId FROM PostComment c " +
+            "WHERE c.parentComment IS NOT NULL")
+    List<CommentParentRow> findAllReplyRows();
+
+    @Modifying
+    @Query("UPDATE PostComment c SET c.rootId = :rootId WHERE c.id IN :ids")
+    int updateRootId(@Param("rootId") Long rootId, @Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,61 @@
+package com.ll.netmong.domain.postComment.service;
+
+import com.ll.netmong.domain.postComment.repository.CommentParentRow;
+import com.ll.netmong.domain.postComment.repository.PostCommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// root_id 컬럼이 생기기 전에 작성된 대댓글의 root_id 를 채운다. 채울 대상이 없으면 조회 한 번으로 끝난다.
+@Component
+@RequiredArgsConstructor
+public class PostCommentRootBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(PostCommentRootBackfill.class);
+
+    private final PostCommentRepository postCommentRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!postCommentRepository.existsByParentCommentIsNotNullAndRootIdIsNull()) {
+            return;
+        }
+
+        Map<Long, CommentParentRow> replies = new HashMap<>();
+        for (CommentParentRow row : postCommentRepository.findAllReplyRows()) {
+            replies.put(row.getId(), row);
+        }
+
+        Map<Long, List<Long>> idsByRoot = new HashMap<>();
+        for (CommentParentRow reply : replies.values()) {
+            if (reply.getRootId() == null) {
+                idsByRoot.computeIfAbsent(findRootId(reply, replies), key -> new ArrayList<>()).add(reply.getId());
+            }
+        }
+        idsByRoot.forEach(postCommentRepository::updateRootId);
+
+        logger.info("대댓글 root_id 채움: 최상위 댓글 {}개", idsByRoot.size());
+    }
+
+    // 부모가 대댓글이 아니면(최상위 댓글이면) 그 부모가 root 다.
+    private Long findRootId(CommentParentRow reply, Map<Long, CommentParentRow> replies) {
+        CommentParentRow current = reply;
+        while (current.getRootId() == null) {
+            CommentParentRow parent = replies.get(current.getParentId());
+            if (parent == null) {
+                return current.getParentId();
+            }
+            current = parent;
+        }
+        return current.getRootId();
+    }
+}
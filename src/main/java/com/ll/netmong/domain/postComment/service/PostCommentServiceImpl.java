@@ -1,5 +1,6 @@
 package com.ll.netmong.domain.postComment.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
 import com.ll.netmong.domain.post.entity.Post;
@@ -11,6 +12,7 @@ import com.ll.netmong.domain.postComment.exception.DataNotFoundException;
 import com.ll.netmong.domain.postComment.repository.PostCommentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,6 +32,7 @@ public class PostCommentServiceImpl implements PostCommentService {
     private final PostCommentRepository postCommentRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final PostCommentSummaryBuffer postCommentSummaryBuffer;
 
     public PostComment findById(Long id) {
         return postCommentRepository.findById(id).orElseThrow();
@@ -54,6 +57,7 @@ public class PostCommentServiceImpl implements PostCommentService {
                 .build();
         post.addComment(comment);
         PostComment savedComment = postCommentRepository.save(comment);
+        recordAdded(post.getId(), savedComment);
         return PostCommentResponse.of(savedComment);
     }
 
@@ -65,6 +69,7 @@ public class PostCommentServiceImpl implements PostCommentService {
         checkCommentAuthor(comment, userDetails);
         comment.updateContent(updateRequest.getContent());
         PostComment updatedComment = postCommentRepository.save(comment);
+        recordEdited(updatedComment);
         return PostCommentResponse.of(updatedComment);
     }
 
@@ -74,15 +79,25 @@ public class PostCommentServiceImpl implements PostCommentService {
         PostComment comment = postCommentRepository.findById(commentId)
                 .orElseThrow(() -> new DataNotFoundException("해당 댓글이 없습니다. id: " + commentId));
         checkCommentAuthor(comment, userDetails);
+        boolean alreadyDeleted = Boolean.TRUE.equals(comment.getIsDeleted());
         comment.markAsDeleted(true);
         postCommentRepository.save(comment);
+
+        if (!alreadyDeleted) {
+            Long postId = comment.getPost().getId();
+            AfterCommit.run(() -> postCommentSummaryBuffer.removed(postId, commentId));
+        }
     }
 
     @Override
-    @Transactional
     public Page<PostCommentResponse> getCommentsOfPost(Long postId, Pageable pageable) {
-        Page<PostComment> comments = postCommentRepository.findByPostIdAndParentCommentIsNull(postId, pageable);
-        return comments.map(this::convertToResponse);
+        Page<PostComment> roots = postCommentRepository.findByPostIdAndParentCommentIsNull(postId, pageable);
+
+        // 페이지의 최상위 댓글 아래 모든 대댓글을 깊이와 상관없이 한 번에 가져온다.
+        List<Long> rootIds = roots.getContent().stream().map(PostComment::getId).toList();
+        List<PostComment> descendants = rootIds.isEmpty() ? List.of() : postCommentRepository.findAllByRootIdIn(rootIds);
+
+        return new PageImpl<>(PostCommentResponse.treeOf(roots.getContent(), descendants), pageable, roots.getTotalElements());
     }
 
     private PostCommentResponse convertToResponse(PostComment comment) {
@@ -97,6 +112,17 @@ public class PostCommentServiceImpl implements PostCommentService {
         );
     }
 
+    private void recordAdded(Long postId, PostComment comment) {
+        AfterCommit.run(() -> postCommentSummaryBuffer.added(postId, comment.getId(), comment.getUsername(), comment.getContent()));
+    }
+
+    private void recordEdited(PostComment comment) {
+        Long postId = comment.getPost().getId();
+        Long commentId = comment.getId();
+        String content = comment.getContent();
+        AfterCommit.run(() -> postCommentSummaryBuffer.edited(postId, commentId, content));
+    }
+
     private void checkCommentAuthor(PostComment comment, UserDetails userDetails) {
         Member member = memberRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new DataNotFoundException("해당하는 회원을 찾을 수 없습니다."));
@@ -125,6 +151,7 @@ public class PostCommentServiceImpl implements PostCommentService {
 
         parentComment.addChildComment(childComment);
         PostComment savedChildComment = postCommentRepository.save(childComment);
+        recordAdded(parentComment.getPost().getId(), savedChildComment);
         return convertToResponse(savedChildComment);
     }
 
@@ -135,6 +162,7 @@ public class PostCommentServiceImpl implements PostCommentService {
                 .orElseThrow(() -> new DataNotFoundException("해당 대댓글이 없습니다. id: " + replyId));
         reply.updateContent(request.getContent());
         PostComment updatedReply = postCommentRepository.save(reply);
+        recordEdited(updatedReply);
         return convertToResponse(updatedReply);
     }
 
@@ -0,0 +1,239 @@
+package com.ll.netmong.domain.postComment.service;
+
+import com.ll.netmong.common.OneTimeBackfill;
+import com.ll.netmong.domain.post.cache.PostDetailCache;
+import com.ll.netmong.domain.post.entity.CommentPreview;
+import com.ll.netmong.domain.post.entity.CommentPreviewsConverter;
+import com.ll.netmong.domain.post.repository.PostCountUpdater;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시물별 댓글 수 변화량과 최근 댓글 미리보기 변경을 메모리에 모았다가
+// 주기적으로 post.comments_count, post.latest_comments 에 한 번에 반영한다.
+@Component
+public class PostCommentSummaryBuffer implements SmartInitializingSingleton {
+    private static final Logger logger = LoggerFactory.getLogger(PostCommentSummaryBuffer.class);
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    private static final int PREVIEW_SIZE = 3;
+    private static final int PREVIEW_CONTENT_LENGTH = 50;
+    private static final String BACKFILL_NAME = "post-comment-summaries";
+
+    private final PostCountUpdater postCountUpdater;
+    private final PostDetailCache postDetailCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final TransactionTemplate backfillTransaction;
+    private final OneTimeBackfill oneTimeBackfill;
+    private final CommentPreviewsConverter previewsConverter = new CommentPreviewsConverter();
+
+    // compute 는 키 단위로만 잠기므로 서로 다른 게시물의 댓글은 경합하지 않는다.
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public PostCommentSummaryBuffer(PostCountUpdater postCountUpdater, PostDetailCache postDetailCache,
+                                    JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    OneTimeBackfill oneTimeBackfill) {
+        this.postCountUpdater = postCountUpdater;
+        this.postDetailCache = postDetailCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.backfillTransaction = new TransactionTemplate(transactionManager);
+        this.backfillTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.oneTimeBackfill = oneTimeBackfill;
+    }
+
+    // 댓글 트랜잭션이 커밋된 뒤에 호출한다.
+    public void added(Long postId, Long commentId, String username, String content) {
+        CommentPreview preview = new CommentPreview(commentId, username, abbreviate(content));
+        pending.compute(postId, (key, changes) -> {
+            Pending updated = changes == null ? new Pending() : changes;
+            updated.delta++;
+            updated.added.add(preview);
+            return updated;
+        });
+    }
+
+    public void removed(Long postId, Long commentId) {
+        pending.compute(postId, (key, changes) -> {
+            Pending updated = changes == null ? new Pending() : changes;
+            updated.delta--;
+            updated.removed.add(commentId);
+            return updated;
+        });
+    }
+
+    // 수정·블라인드된 댓글이 미리보기에 있으면 내용만 바꾼다.
+    public void edited(Long postId, Long commentId, String content) {
+        String abbreviated = abbreviate(content);
+        pending.compute(postId, (key, changes) -> {
+            Pending updated = changes == null ? new Pending() : changes;
+            updated.edited.put(commentId, abbreviated);
+            return updated;
+        });
+    }
+
+    // 컬럼이 생기기 전에 작성된 댓글로 댓글 수와 미리보기를 한 번만 채운다.
+    // 웹 서버와 스케줄러가 시작되기 전에 실행되므로 아직 요청으로 쌓인 변화량이 없고,
+    // 먼저 채운 인스턴스 이후의 댓글은 모두 변화량으로 반영되므로 다시 세지 않는다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        oneTimeBackfill.runOnce(BACKFILL_NAME, this::backfill);
+    }
+
+    // 게시물 id 순으로 FLUSH_CHUNK_SIZE 개씩 나눠 커밋해 한 번에 모든 게시물 행을 잠그지 않는다.
+    // 묶음마다 댓글 행에서 다시 계산해 덮어쓰므로 중간에 실패해 다시 실행해도 결과가 같다.
+    private void backfill() {
+        long lastId = 0;
+        while (true) {
+            List<Long> postIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM post WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastId, FLUSH_CHUNK_SIZE);
+            if (postIds.isEmpty()) {
+                return;
+            }
+            backfillTransaction.executeWithoutResult(status -> backfill(postIds));
+            lastId = postIds.get(postIds.size() - 1);
+        }
+    }
+
+    private void backfill(List<Long> postIds) {
+        String in = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT post_id, COUNT(*) AS comments_count FROM post_comment " +
+                "WHERE post_id IN (" + in + ") AND is_deleted = false GROUP BY post_id", rs -> {
+            counts.put(rs.getLong("post_id"), rs.getLong("comments_count"));
+        }, postIds.toArray());
+
+        Map<Long, List<CommentPreview>> previews = new HashMap<>();
+        jdbcTemplate.query("SELECT post_id, id, username, content FROM (" +
+                "SELECT c.post_id, c.id, c.username, c.content, " +
+                "ROW_NUMBER() OVER (PARTITION BY c.post_id ORDER BY c.id DESC) AS rn " +
+                "FROM post_comment c WHERE c.post_id IN (" + in + ") AND c.is_deleted = false" +
+                ") latest WHERE rn <= " + PREVIEW_SIZE + " ORDER BY post_id, id DESC", rs -> {
+            previews.computeIfAbsent(rs.getLong("post_id"), key -> new ArrayList<>())
+                    .add(new CommentPreview(rs.getLong("id"), rs.getString("username"), abbreviate(rs.getString("content"))));
+        }, postIds.toArray());
+
+        List<Object[]> updates = postIds.stream()
+                .map(postId -> new Object[]{counts.getOrDefault(postId, 0L),
+                        previewsConverter.convertToDatabaseColumn(previews.getOrDefault(postId, List.of())), postId})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE post SET comments_count = ?, latest_comments = ? WHERE id = ?", updates);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.comment.flush-interval-ms:1000}")
+    public void flush() {
+        // remove 로 꺼낸 뒤의 변경은 새 항목으로 쌓이므로 유실되지 않는다.
+        List<Map.Entry<Long, Pending>> drained = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            Pending changes = pending.remove(postId);
+            if (changes != null) {
+                drained.add(Map.entry(postId, changes));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Pending>> chunk = drained.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, drained.size()));
+            try {
+                flushTransaction.executeWithoutResult(status -> apply(chunk));
+                postDetailCache.invalidateAll(chunk.stream().map(Map.Entry::getKey).toList());
+            } catch (RuntimeException e) {
+                // 댓글 수와 미리보기는 한 트랜잭션으로 반영되므로 실패한 묶음은 통째로 다음 주기에 재시도한다.
+                chunk.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Pending::absorb));
+                logger.warn("댓글 요약 반영 실패: {}건, 다음 주기에 재시도합니다.", chunk.size(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void apply(List<Map.Entry<Long, Pending>> chunk) {
+        List<Map.Entry<Long, Long>> deltas = chunk.stream()
+                .filter(entry -> entry.getValue().delta != 0)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().delta))
+                .toList();
+        if (!deltas.isEmpty()) {
+            postCountUpdater.addDeltas(PostCountUpdater.Counter.COMMENTS, deltas);
+        }
+
+        Map<Long, Pending> changesByPost = new LinkedHashMap<>();
+        chunk.forEach(entry -> changesByPost.put(entry.getKey(), entry.getValue()));
+        Map<Long, List<CommentPreview>> current = loadPreviews(changesByPost.keySet());
+
+        List<Object[]> updates = new ArrayList<>();
+        current.forEach((postId, previews) -> {
+            List<CommentPreview> merged = merge(previews, changesByPost.get(postId));
+            updates.add(new Object[]{previewsConverter.convertToDatabaseColumn(merged), postId});
+        });
+        jdbcTemplate.batchUpdate("UPDATE post SET latest_comments = ? WHERE id = ?", updates);
+    }
+
+    private Map<Long, List<CommentPreview>> loadPreviews(Set<Long> postIds) {
+        String sql = "SELECT id, latest_comments FROM post WHERE id IN ("
+                + String.join(", ", Collections.nCopies(postIds.size(), "?")) + ")";
+        Map<Long, List<CommentPreview>> previews = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            previews.put(rs.getLong("id"), previewsConverter.convertToEntityAttribute(rs.getString("latest_comments")));
+        }, postIds.toArray());
+        return previews;
+    }
+
+    // 최신 댓글(id 가 큰 순)부터 PREVIEW_SIZE 개만 남긴다.
+    private static List<CommentPreview> merge(List<CommentPreview> current, Pending changes) {
+        Map<Long, CommentPreview> byId = new HashMap<>();
+        current.forEach(preview -> byId.put(preview.getCommentId(), preview));
+        changes.added.forEach(preview -> byId.put(preview.getCommentId(), preview));
+        changes.edited.forEach((commentId, content) -> byId.computeIfPresent(commentId,
+                (key, preview) -> new CommentPreview(commentId, preview.getUsername(), content)));
+        changes.removed.forEach(byId::remove);
+
+        return byId.values().stream()
+                .sorted(Comparator.comparing(CommentPreview::getCommentId).reversed())
+                .limit(PREVIEW_SIZE)
+                .toList();
+    }
+
+    private static String abbreviate(String content) {
+        if (content == null || content.length() <= PREVIEW_CONTENT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_CONTENT_LENGTH) + "…";
+    }
+
+    private static class Pending {
+        private long delta = 0;
+        private final List<CommentPreview> added = new ArrayList<>();
+        private final Set<Long> removed = new HashSet<>();
+        private final Map<Long, String> edited = new HashMap<>();
+
+        // 댓글 id 는 겹치지 않으므로 추가·삭제는 합치는 순서가 결과에 영향이 없다.
+        // other 는 재시도로 되돌아온 이전 변경이므로 수정 내용은 이쪽의 최신 값을 우선한다.
+        private Pending absorb(Pending other) {
+            delta += other.delta;
+            added.addAll(other.added);
+            removed.addAll(other.removed);
+            other.edited.forEach(edited::putIfAbsent);
+            return this;
+        }
+    }
+}
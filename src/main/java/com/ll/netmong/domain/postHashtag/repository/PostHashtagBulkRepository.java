@@ -0,0 +1,10 @@
+package com.ll.netmong.domain.postHashtag.repository;
+
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+
+import java.util.Collection;
+
+public interface PostHashtagBulkRepository {
+    // IDENTITY 키라 JPA 로는 한 건씩 insert 되므로 JDBC batch 로 한 번에 넣는다.
+    void insertAll(Long postId, Collection<Hashtag> hashtags);
+}
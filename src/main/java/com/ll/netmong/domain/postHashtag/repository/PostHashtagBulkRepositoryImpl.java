@@ -0,0 +1,34 @@
+package com.ll.netmong.domain.postHashtag.repository;
+
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class PostHashtagBulkRepositoryImpl implements PostHashtagBulkRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO post_hashtag (post_id, hashtag_id, hashtag_name, create_date, modify_date) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostHashtagBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Long postId, Collection<Hashtag> hashtags) {
+        if (hashtags.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = hashtags.stream()
+                .map(hashtag -> new Object[]{postId, hashtag.getId(), hashtag.getName(), now, now})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
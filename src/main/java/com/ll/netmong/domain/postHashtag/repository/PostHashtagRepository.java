@@ -1,12 +1,37 @@
 package com.ll.netmong.domain.postHashtag.repository;
 
+import com.ll.netmong.domain.hashtag.posting.HashtagPostRow;
+import com.ll.netmong.domain.hashtag.trending.HashtagUsageRow;
 import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.postHashtag.entity.PostHashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
+public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long>, PostHashtagBulkRepository {
     List<PostHashtag> findByPostId(Long postId);
     PostHashtag findByPostAndName(Post post, String name);
+
+    @Query("SELECT ph.name FROM PostHashtag ph WHERE ph.post.id = :postId")
+    List<String> findNamesByPostId(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostHashtag ph WHERE ph.post.id = :postId AND ph.hashtag.id IN :hashtagIds")
+    int deleteByPostIdAndHashtagIdIn(@Param("postId") Long postId, @Param("hashtagIds") Collection<Long> hashtagIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostHashtag ph WHERE ph.post.id = :postId")
+    int deleteAllByPostIdInBulk(@Param("postId") Long postId);
+
+    @Query("SELECT ph.name AS name, p.id AS postId FROM PostHashtag ph JOIN ph.post p " +
+            "WHERE p.status = 'Y' ORDER BY p.modifyDate DESC, p.id DESC")
+    List<HashtagPostRow> findAllHashtagPostRows();
+
+    @Query("SELECT ph.name AS name, ph.createDate AS createDate FROM PostHashtag ph WHERE ph.createDate >= :since")
+    List<HashtagUsageRow> findHashtagUsagesSince(@Param("since") LocalDateTime since);
 }
@@ -1,9 +1,11 @@
 package com.ll.netmong.domain.postHashtag.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.hashtag.entity.Hashtag;
-import com.ll.netmong.domain.hashtag.repository.HashtagRepository;
+import com.ll.netmong.domain.hashtag.posting.HashtagPostings;
+import com.ll.netmong.domain.hashtag.service.HashtagService;
+import com.ll.netmong.domain.hashtag.trending.TrendingHashtags;
 import com.ll.netmong.domain.post.dto.request.UpdatePostRequest;
-import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.post.repository.PostRepository;
 import com.ll.netmong.domain.postHashtag.entity.PostHashtag;
 import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
@@ -12,10 +14,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,46 +28,74 @@ import java.util.stream.Collectors;
 public class PostHashtagServiceImpl implements PostHashtagService {
     private final PostHashtagRepository postHashtagRepository;
     private final PostRepository postRepository;
-    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+    private final HashtagPostings hashtagPostings;
+    private final TrendingHashtags trendingHashtags;
 
     private static final Pattern CONTENT_PATTERN = Pattern.compile("#(\\S+)");
 
     @Override
     @Transactional
     public void deleteHashtag(Long postId) {
-        List<PostHashtag> postHashtags = postHashtagRepository.findByPostId(postId);
+        List<String> names = postHashtagRepository.findNamesByPostId(postId);
 
-        for (PostHashtag postHashtag : postHashtags) {
-            postHashtagRepository.delete(postHashtag);
-        }
+        postHashtagRepository.deleteAllByPostIdInBulk(postId);
+
+        AfterCommit.run(() -> hashtagPostings.remove(postId, names));
     }
 
     @Override
     @Transactional
     public void updateHashtag(Long postId, UpdatePostRequest updatePostRequest) {
-        Post originPost = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
-
-        List<String> originNames = originPost.getNames().stream()
-                .map(postHashtag -> postHashtag.getHashtag().getName())
-                .collect(Collectors.toList());
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("해당 게시글이 존재하지 않습니다.");
+        }
 
-        List<String> names = parsingContent(updatePostRequest.getContent());
+        // 기존 해시태그(키 -> 행)에서 새 해시태그를 하나씩 지워 나가면 남는 것이 사라진 해시태그다.
+        // 대소문자만 바뀐 해시태그는 DB 에서 같은 해시태그이므로 대소문자를 구분하지 않는 키로 비교한다.
+        Map<String, PostHashtag> removed = new HashMap<>();
+        for (PostHashtag postHashtag : postHashtagRepository.findByPostId(postId)) {
+            removed.put(Hashtag.keyOf(postHashtag.getName()), postHashtag);
+        }
 
-        //새로운 해시태그(name)를 추가
-        for (String name : names) {
-            if (!originNames.contains(name)) {
-                Hashtag hashtag = hashtagRepository.findByName(name).orElseGet(() -> hashtagRepository.save(new Hashtag(name)));
-                postHashtagRepository.save(new PostHashtag(originPost, hashtag));
+        Set<String> keys = new HashSet<>();
+        List<String> names = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (String name : parsingContent(updatePostRequest.getContent())) {
+            String key = Hashtag.keyOf(name);
+            if (!keys.add(key)) {
+                continue;
+            }
+            PostHashtag kept = removed.remove(key);
+            if (kept == null) {
+                added.add(name);
+            } else {
+                names.add(kept.getName());
             }
         }
 
-        //사라진 해시태그(originName)를 삭제
-        for (String originName : originNames) {
-            if (!names.contains(originName)) {
-                PostHashtag postHashtag = postHashtagRepository.findByPostAndName(originPost, originName);
-                postHashtagRepository.delete(postHashtag);
-            }
+        if (!removed.isEmpty()) {
+            List<Long> removedIds = removed.values().stream().map(postHashtag -> postHashtag.getHashtag().getId()).toList();
+            postHashtagRepository.deleteByPostIdAndHashtagIdIn(postId, removedIds);
+        }
+        List<String> addedNames = new ArrayList<>();
+        if (!added.isEmpty()) {
+            List<Hashtag> addedHashtags = hashtagService.findOrCreateHashtags(added);
+            postHashtagRepository.insertAll(postId, addedHashtags);
+            addedHashtags.forEach(hashtag -> addedNames.add(hashtag.getName()));
+            names.addAll(addedNames);
         }
+
+        // 수정된 게시물은 남아 있는 해시태그 목록의 맨 앞으로 옮기고, 사라진 해시태그 목록에서는 뺀다.
+        // 수정으로 새로 붙은 해시태그는 작성 때와 마찬가지로 인기 해시태그 사용으로 센다.
+        List<String> removedNames = removed.values().stream().map(PostHashtag::getName).toList();
+        AfterCommit.run(() -> {
+            hashtagPostings.touch(postId, names);
+            hashtagPostings.remove(postId, removedNames);
+            if (!addedNames.isEmpty()) {
+                trendingHashtags.record(addedNames);
+            }
+        });
     }
 
     public List<String> parsingContent(String content) {
@@ -1,8 +1,10 @@
 package com.ll.netmong.domain.reports.service;
 
+import com.ll.netmong.common.AfterCommit;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.postComment.entity.PostComment;
+import com.ll.netmong.domain.postComment.service.PostCommentSummaryBuffer;
 import com.ll.netmong.domain.reports.dto.request.ReportRequest;
 import com.ll.netmong.domain.reports.dto.response.ReportCommentResponse;
 import com.ll.netmong.domain.reports.dto.response.ReportPostResponse;
@@ -26,6 +28,7 @@ public class ReportServiceImpl implements ReportService {
 
     private final ReportPostRepository reportPostRepository;
     private final ReportCommentRepository reportCommentRepository;
+    private final PostCommentSummaryBuffer postCommentSummaryBuffer;
 
     @Override
     @Transactional
@@ -69,9 +72,17 @@ public class ReportServiceImpl implements ReportService {
         reportCommentRepository.save(reportComment);
 
         // 신고 횟수 증가 및 블라인드 처리 여부 판단
+        boolean alreadyBlinded = Boolean.TRUE.equals(reportedComment.getIsBlinded());
         reportedComment.increaseReportCount();
         reportedComment.checkAndBlindComment();
 
+        if (!alreadyBlinded && Boolean.TRUE.equals(reportedComment.getIsBlinded())) {
+            Long postId = reportedComment.getPost().getId();
+            Long commentId = reportedComment.getId();
+            String content = reportedComment.getContent();
+            AfterCommit.run(() -> postCommentSummaryBuffer.edited(postId, commentId, content));
+        }
+
         return new ReportCommentResponse(reportComment);
     }
 
@@ -0,0 +1,26 @@
+package com.ll.netmong.domain.timeline.controller;
+
+import com.ll.netmong.common.CursorResponse;
+import com.ll.netmong.common.RsData;
+import com.ll.netmong.domain.post.dto.response.PostResponse;
+import com.ll.netmong.domain.timeline.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/timeline")
+public class TimelineController {
+    private final TimelineService timelineService;
+
+    @GetMapping
+    public RsData<CursorResponse<PostResponse>> getTimeline(@AuthenticationPrincipal UserDetails userDetails,
+                                                            @RequestParam(required = false) String cursor) {
+        return RsData.successOf(timelineService.getTimeline(userDetails, cursor, 5));
+    }
+}
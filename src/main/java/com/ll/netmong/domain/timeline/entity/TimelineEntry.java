@@ -0,0 +1,28 @@
+package com.ll.netmong.domain.timeline.entity;
+
+import com.ll.netmong.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 팔로워별 홈 타임라인에 전달된 게시물. 조회는 (member_id, post_id) 유니크 인덱스의 범위 읽기 한 번으로 끝난다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_timeline_entry_member_post", columnNames = {"member_id", "post_id"}),
+        indexes = @Index(name = "idx_timeline_entry_create_date", columnList = "createDate"))
+public class TimelineEntry extends BaseEntity {
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+}
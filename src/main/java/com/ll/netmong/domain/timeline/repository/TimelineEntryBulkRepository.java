@@ -0,0 +1,7 @@
+package com.ll.netmong.domain.timeline.repository;
+
+import java.util.Collection;
+
+public interface TimelineEntryBulkRepository {
+    void insertAll(Collection<Long> memberIds, Long postId, Long authorId);
+}
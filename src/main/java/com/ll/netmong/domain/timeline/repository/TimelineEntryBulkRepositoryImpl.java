@@ -0,0 +1,38 @@
+package com.ll.netmong.domain.timeline.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TimelineEntryBulkRepositoryImpl implements TimelineEntryBulkRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO timeline_entry (member_id, post_id, author_id, create_date, modify_date) VALUES (?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TimelineEntryBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Collection<Long> memberIds, Long postId, Long authorId) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> rows = List.copyOf(memberIds);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, memberId) -> {
+            ps.setLong(1, memberId);
+            ps.setLong(2, postId);
+            ps.setLong(3, authorId);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.ll.netmong.domain.timeline.repository;
+
+import com.ll.netmong.domain.timeline.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long>, TimelineEntryBulkRepository {
+
+    @Query("SELECT t.postId FROM TimelineEntry t WHERE t.memberId = :memberId AND t.postId < :cursor ORDER BY t.postId DESC")
+    List<Long> findPostIdsByMemberIdBefore(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.memberId = :memberId AND t.authorId = :authorId")
+    int deleteByMemberIdAndAuthorId(@Param("memberId") Long memberId, @Param("authorId") Long authorId);
+
+    @Modifying
+    @Query(value = "DELETE FROM timeline_entry WHERE create_date < :before LIMIT :limit", nativeQuery = true)
+    int deleteCreatedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,46 @@
+package com.ll.netmong.domain.timeline.service;
+
+import com.ll.netmong.domain.timeline.repository.TimelineEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+// timeline_entry 는 게시물마다 팔로워 수만큼 쌓이므로 보관 기간이 지난 행을 매일 지운다.
+// 한 번에 지우면 긴 락이 걸리므로 DELETE_CHUNK_SIZE 개씩 나눠 각각 커밋한다.
+@Component
+public class TimelineEntryPurger {
+    private static final Logger logger = LoggerFactory.getLogger(TimelineEntryPurger.class);
+    private static final int DELETE_CHUNK_SIZE = 10_000;
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final TransactionTemplate deleteTransaction;
+    private final int retentionDays;
+
+    public TimelineEntryPurger(TimelineEntryRepository timelineEntryRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${custom.timeline.retention-days:30}") int retentionDays) {
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.deleteTransaction = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(cron = "${custom.timeline.purge-cron:0 0 5 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = deleteTransaction.execute(status ->
+                    timelineEntryRepository.deleteCreatedBefore(before, DELETE_CHUNK_SIZE));
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+
+        logger.info("{}일이 지난 타임라인 항목 {}개를 삭제했습니다.", retentionDays, total);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ll.netmong.domain.timeline.service;
+
+import com.ll.netmong.domain.timeline.repository.TimelineEntryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 팔로워별 최근 타임라인 게시물 id 를 고정 크기 ring 으로 메모리에 둔다.
+// ring 에 없는 회원이나 ring 보다 오래된 구간은 timeline_entry 테이블에서 읽는다.
+@Component
+public class TimelineRings {
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final TransactionTemplate loadTransaction;
+    private final int ringSize;
+    private final int maxMembers;
+
+    private final LinkedHashMap<Long, Ring> rings;
+    // 적재 중인 회원 -> 적재 중에 새 게시물이 전달되었는지
+    private final Map<Long, Boolean> loading = new HashMap<>();
+
+    public TimelineRings(TimelineEntryRepository timelineEntryRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${custom.timeline.ring-size:200}") int ringSize,
+                         @Value("${custom.timeline.max-cached-members:10000}") int maxMembers) {
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.ringSize = ringSize;
+        this.maxMembers = maxMembers;
+        this.rings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ring> eldest) {
+                return size() > TimelineRings.this.maxMembers;
+            }
+        };
+    }
+
+    // fan-out 트랜잭션이 커밋된 뒤 호출한다. ring 이 없는 회원은 다음 조회 때 DB 에서 적재한다.
+    public synchronized void push(Collection<Long> memberIds, Long postId) {
+        for (Long memberId : memberIds) {
+            Ring ring = rings.get(memberId);
+            if (ring != null) {
+                ring.push(postId);
+            } else if (loading.containsKey(memberId)) {
+                loading.put(memberId, true);
+            }
+        }
+    }
+
+    // 언팔로우 트랜잭션이 커밋된 뒤 호출한다. 적재 중이던 ring 도 버려 다음 조회 때 DB 에서 다시 적재한다.
+    public synchronized void evict(Long memberId) {
+        rings.remove(memberId);
+        if (loading.containsKey(memberId)) {
+            loading.put(memberId, true);
+        }
+    }
+
+    // cursor 보다 작은 게시물 id 를 최신순으로 limit 개까지 반환한다.
+    public List<Long> read(Long memberId, long cursor, int limit) {
+        boolean cached;
+        synchronized (this) {
+            Ring ring = rings.get(memberId);
+            cached = ring != null;
+            if (cached) {
+                List<Long> postIds = ring.before(cursor, limit);
+                if (postIds != null) {
+                    return postIds;
+                }
+            } else {
+                loading.putIfAbsent(memberId, false);
+            }
+        }
+        if (cached) {
+            // ring 보다 오래된 구간은 DB 에서 읽는다.
+            return readFromTable(memberId, cursor, limit);
+        }
+
+        // 호출한 트랜잭션보다 늦게 커밋된 fan-out 까지 읽도록 새 트랜잭션에서 적재한다.
+        List<Long> latest = loadTransaction.execute(status ->
+                timelineEntryRepository.findPostIdsByMemberIdBefore(memberId, Long.MAX_VALUE, PageRequest.of(0, ringSize)));
+        Ring ring = Ring.of(ringSize, latest);
+
+        boolean stale;
+        synchronized (this) {
+            stale = Boolean.TRUE.equals(loading.remove(memberId));
+            if (!stale && !rings.containsKey(memberId)) {
+                rings.put(memberId, ring);
+            }
+        }
+
+        List<Long> postIds = stale ? null : ring.before(cursor, limit);
+        return postIds != null ? postIds : readFromTable(memberId, cursor, limit);
+    }
+
+    private List<Long> readFromTable(Long memberId, long cursor, int limit) {
+        return timelineEntryRepository.findPostIdsByMemberIdBefore(memberId, cursor, PageRequest.of(0, limit));
+    }
+
+    public synchronized int size() {
+        return rings.size();
+    }
+
+    private static class Ring {
+        private final long[] postIds;
+        private int head = 0;
+        private int size = 0;
+        // ring 이 한 번도 넘치지 않았다면 이 회원의 타임라인 전체를 담고 있다.
+        private boolean complete;
+
+        private Ring(int capacity, boolean complete) {
+            this.postIds = new long[capacity];
+            this.complete = complete;
+        }
+
+        // latest 는 최신순
+        private static Ring of(int capacity, List<Long> latest) {
+            Ring ring = new Ring(capacity, latest.size() < capacity);
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                ring.push(latest.get(i));
+            }
+            return ring;
+        }
+
+        private void push(long postId) {
+            if (size == postIds.length) {
+                complete = false;
+            } else {
+                size++;
+            }
+            postIds[head] = postId;
+            head = (head + 1) % postIds.length;
+        }
+
+        // 답할 수 없는(ring 밖의 오래된 구간이 필요한) 경우 null
+        private List<Long> before(long cursor, int limit) {
+            // 동시에 업로드된 게시물은 id 순서와 다르게 들어올 수 있어 정렬 후 자른다.
+            List<Long> result = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                long postId = postIds[(head - 1 - i + postIds.length) % postIds.length];
+                if (postId < cursor) {
+                    result.add(postId);
+                }
+            }
+            if (result.size() < limit && !complete) {
+                return null;
+            }
+            result.sort(Comparator.reverseOrder());
+            return result.subList(0, Math.min(limit, result.size()));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ll.netmong.domain.timeline.service;
+
+import com.ll.netmong.common.AfterCommit;
+import com.ll.netmong.common.CursorResponse;
+import com.ll.netmong.common.InvalidRequestParameterException;
+import com.ll.netmong.domain.follow.graph.FollowGraph;
+import com.ll.netmong.domain.follow.repository.FollowRepository;
+import com.ll.netmong.domain.likedPost.service.LikedPostCache;
+import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.domain.post.dto.response.PostResponse;
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.postComment.exception.DataNotFoundException;
+import com.ll.netmong.domain.timeline.repository.TimelineEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TimelineService {
+    private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final TimelineRings timelineRings;
+    private final LikedPostCache likedPostCache;
+
+    // 팔로워가 이 수를 넘는 계정은 작성 시 전달하지 않고, 조회 시 팔로워가 직접 가져온다.
+    @Value("${custom.timeline.celebrity-threshold:1000}")
+    private long celebrityThreshold;
+
+    @Transactional
+    public void fanOut(Post post) {
+        Long authorId = post.getMember().getId();
+        if (countFollowers(authorId) > celebrityThreshold) {
+            return;
+        }
+
+        List<Long> followerIds = followGraph.isReady()
+                ? Arrays.stream(followGraph.findFollowerIds(authorId)).boxed().toList()
+                : followRepository.findFollowerIdsByFolloweeId(authorId);
+        timelineEntryRepository.insertAll(followerIds, post.getId(), authorId);
+
+        AfterCommit.run(() -> timelineRings.push(followerIds, post.getId()));
+    }
+
+    // 언팔로우한 계정의 게시물은 이미 전달된 것까지 타임라인에서 뺀다.
+    @Transactional
+    public void unfollowed(Long memberId, Long authorId) {
+        timelineEntryRepository.deleteByMemberIdAndAuthorId(memberId, authorId);
+        AfterCommit.run(() -> timelineRings.evict(memberId));
+    }
+
+    public CursorResponse<PostResponse> getTimeline(UserDetails userDetails, String cursor, int size) {
+        Member member = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new DataNotFoundException("사용자를 찾을 수 없습니다."));
+        long before = decodeCursor(cursor);
+
+        List<Long> pushed = timelineRings.read(member.getId(), before, size + 1);
+
+        List<Long> celebrityIds = findCelebrityFolloweeIds(member.getId());
+        List<Long> pulled = celebrityIds.isEmpty()
+                ? List.of()
+                : postRepository.findIdsByMemberIdInBefore(celebrityIds, before, PageRequest.of(0, size + 1));
+
+        List<Long> postIds = Stream.concat(pushed.stream(), pulled.stream())
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(size + 1L)
+                .toList();
+        boolean hasNext = postIds.size() > size;
+        List<Long> pageIds = postIds.subList(0, Math.min(size, postIds.size()));
+
+        Map<Long, Post> postsById = postRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Set<Long> likedPostIds = likedPostCache.findLikedPostIds(userDetails.getUsername(), pageIds);
+
+        // 삭제된 게시물은 findAllById 에서 걸러진다.
+        List<PostResponse> responses = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(post -> {
+                    PostResponse response = PostResponse.postsView(post);
+                    response.setIsLiked(likedPostIds.contains(post.getId()));
+                    return response;
+                })
+                .toList();
+
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+        return new CursorResponse<>(new SliceImpl<>(responses, PageRequest.of(0, size), hasNext), nextCursor);
+    }
+
+    private long countFollowers(Long memberId) {
+        return followGraph.isReady()
+                ? followGraph.countFollowers(memberId)
+                : followRepository.countByFolloweeId(memberId);
+    }
+
+    private List<Long> findCelebrityFolloweeIds(Long memberId) {
+        if (!followGraph.isReady()) {
+            return followRepository.findCelebrityFolloweeIds(memberId, celebrityThreshold);
+        }
+        return Arrays.stream(followGraph.findFollowingIds(memberId))
+                .filter(followeeId -> followGraph.countFollowers(followeeId) > celebrityThreshold)
+                .boxed()
+                .toList();
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestParameterException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ll.netmong.base.exceptionhandler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "netmong@netmong.com")
+class InvalidCursorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("게시물 커서를 해석할 수 없으면 400 으로 응답한다.")
+    void postCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/post/view/cursor").param("cursor", "잘못된커서"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("F-1"))
+                .andExpect(jsonPath("$.data").value("잘못된 커서입니다."));
+    }
+
+    @Test
+    @DisplayName("타임라인 커서를 해석할 수 없으면 400 으로 응답한다.")
+    void timelineCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/timeline").param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data").value("잘못된 커서입니다."));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ll.netmong.base.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "netmong-test-secret-key-for-hs512-signature-must-be-64-bytes-long!!".getBytes());
+
+    @Test
+    @DisplayName("verify()는 유효한 토큰의 인증 정보를 반환하고, 같은 토큰은 캐시에서 꺼낸다.")
+    void verifyValidToken() {
+        TokenProvider tokenProvider = tokenProvider(3600);
+        String token = tokenProvider.createAccessToken("member@test.com", "ROLE_MEMBER", "family-1");
+
+        TokenVerification first = tokenProvider.verify(token);
+        TokenVerification second = tokenProvider.verify(token);
+
+        assertThat(first.isValid()).isTrue();
+        assertThat(first.getAuthentication().getName()).isEqualTo("member@test.com");
+        assertThat(first.getAuthentication().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_MEMBER");
+        assertThat(first.getFamilyId()).isEqualTo("family-1");
+        assertThat(second.isValid()).isTrue();
+        assertThat(second.getFamilyId()).isEqualTo("family-1");
+        assertThat(second.getAuthentication()).isNotSameAs(first.getAuthentication());
+        assertThat(tokenProvider.verifiedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("verify()는 서명이 다른 토큰을 INVALID_SIGNATURE 로 거절하고 캐시하지 않는다.")
+    void verifyTamperedToken() {
+        TokenProvider tokenProvider = tokenProvider(3600);
+        String token = tokenProvider.createAccessToken("member@test.com", "ROLE_MEMBER", "family-1");
+        String tampered = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+
+        TokenVerification verification = tokenProvider.verify(tampered);
+
+        assertThat(verification.getStatus()).isEqualTo(TokenVerification.Status.INVALID_SIGNATURE);
+        assertThat(verification.getMessage()).isEqualTo("잘못된 JWT 서명입니다");
+        assertThat(tokenProvider.verifiedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("verify()는 만료된 토큰을 EXPIRED 로 거절한다.")
+    void verifyExpiredToken() {
+        TokenProvider tokenProvider = tokenProvider(-10);
+        String token = tokenProvider.createAccessToken("member@test.com", "ROLE_MEMBER", "family-1");
+
+        assertThat(tokenProvider.verify(token).getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("verify()는 형식이 잘못된 토큰을 예외 없이 실패 결과로 반환한다.")
+    void verifyMalformedToken() {
+        TokenProvider tokenProvider = tokenProvider(3600);
+
+        assertThat(tokenProvider.verify("not-a-jwt").isValid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 수명은 설정한 초 단위 값과 같다.")
+    void refreshTokenValidity() {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, 3600, 1209600);
+
+        assertThat(tokenProvider.getRefreshTokenValidityInMilliseconds()).isEqualTo(1209600L * 1000);
+    }
+
+    private TokenProvider tokenProvider(long validityInSeconds) {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, validityInSeconds, validityInSeconds);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 100L);
+        tokenProvider.afterPropertiesSet();
+        return tokenProvider;
+    }
+}
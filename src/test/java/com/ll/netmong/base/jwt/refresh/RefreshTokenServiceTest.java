@@ -0,0 +1,98 @@
+package com.ll.netmong.base.jwt.refresh;
+
+import com.ll.netmong.base.jwt.TokenDto;
+import com.ll.netmong.base.jwt.TokenProvider;
+import com.ll.netmong.base.jwt.TokenVerification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private RefreshTokenRevocations revocations;
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    @DisplayName("issue()는 원문 대신 해시를 저장하고, 액세스 토큰에 family 를 담는다.")
+    void issueTest() {
+        TokenDto tokens = refreshTokenService.issue(authentication("issue@test.com"));
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(tokens.getRefresh_token())).orElseThrow();
+        TokenVerification verification = tokenProvider.verify(tokens.getAccess_token());
+
+        assertThat(stored.getTokenHash()).isNotEqualTo(tokens.getRefresh_token());
+        assertThat(stored.getMemberEmail()).isEqualTo("issue@test.com");
+        assertThat(verification.getFamilyId()).isEqualTo(stored.getFamilyId());
+        assertThat(revocations.isRevoked(stored.getFamilyId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("rotate()는 같은 family 의 새 토큰을 발급하고, 이미 회전된 토큰이 다시 오면 family 전체를 폐기한다.")
+    void rotateAndReuseDetectionTest() {
+        TokenDto first = refreshTokenService.issue(authentication("rotate@test.com"));
+        TokenDto second = refreshTokenService.rotate(first.getRefresh_token());
+        String familyId = tokenProvider.verify(first.getAccess_token()).getFamilyId();
+
+        assertThat(second.getRefresh_token()).isNotEqualTo(first.getRefresh_token());
+        assertThat(tokenProvider.verify(second.getAccess_token()).getFamilyId()).isEqualTo(familyId);
+
+        // 탈취된 이전 토큰 재사용
+        assertThatThrownBy(() -> refreshTokenService.rotate(first.getRefresh_token()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        assertThat(revocations.isRevoked(familyId)).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(second.getRefresh_token()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    @DisplayName("revoke()는 본인 토큰의 family 만 폐기한다.")
+    void revokeTest() {
+        TokenDto mine = refreshTokenService.issue(authentication("logout@test.com"));
+        TokenDto otherDevice = refreshTokenService.issue(authentication("logout@test.com"));
+
+        assertThatThrownBy(() -> refreshTokenService.revoke(mine.getRefresh_token(), "other@test.com"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        refreshTokenService.revoke(mine.getRefresh_token(), "logout@test.com");
+
+        assertThat(revocations.isRevoked(tokenProvider.verify(mine.getAccess_token()).getFamilyId())).isTrue();
+        assertThat(revocations.isRevoked(tokenProvider.verify(otherDevice.getAccess_token()).getFamilyId())).isFalse();
+        assertThat(refreshTokenService.revokeAll("logout@test.com")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("revoked() 로 넣은 family 는 필터를 다시 만들기 전에도 폐기로 판단한다.")
+    void revocationFilterTest() {
+        TokenDto tokens = refreshTokenService.issue(authentication("filter@test.com"));
+        String familyId = tokenProvider.verify(tokens.getAccess_token()).getFamilyId();
+
+        refreshTokenService.revokeAll("filter@test.com");
+        revocations.rebuild();
+
+        assertThat(revocations.isReady()).isTrue();
+        assertThat(revocations.isRevoked(familyId)).isTrue();
+        assertThat(revocations.isRevoked(null)).isFalse();
+    }
+
+    private UsernamePasswordAuthenticationToken authentication(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null, List.of(new SimpleGrantedAuthority("ROLE_MEMBER")));
+    }
+}
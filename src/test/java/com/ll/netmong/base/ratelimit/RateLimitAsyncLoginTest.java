@@ -0,0 +1,72 @@
+package com.ll.netmong.base.ratelimit;
+
+import com.ll.netmong.domain.member.dto.JoinRequest;
+import com.ll.netmong.domain.member.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "custom.rate-limit.login.ip-per-minute=1",
+        "custom.rate-limit.login.email-per-minute=1"
+})
+class RateLimitAsyncLoginTest {
+    private static final String EMAIL = "async-login@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE member_email = ?", EMAIL);
+        jdbcTemplate.update("DELETE FROM member WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    @DisplayName("비동기 로그인은 ASYNC 재디스패치에서 다시 차감되지 않아, 한도가 1이어도 첫 로그인은 성공한다.")
+    void asyncLoginIsChargedOnce() throws Exception {
+        JoinRequest joinRequest = new JoinRequest();
+        joinRequest.setUsername("asyncLogin");
+        joinRequest.setPassword("password1");
+        joinRequest.setRealname("async");
+        joinRequest.setEmail(EMAIL);
+        memberService.createMember(joinRequest);
+
+        MvcResult started = mockMvc.perform(login())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("S-1"));
+
+        mockMvc.perform(login())
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private MockHttpServletRequestBuilder login() {
+        return post("/api/v1/members/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + EMAIL + "\",\"password\":\"password1\"}");
+    }
+}
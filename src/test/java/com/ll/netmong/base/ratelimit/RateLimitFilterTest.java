@@ -0,0 +1,146 @@
+package com.ll.netmong.base.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("토큰 버킷은 용량만큼 허용한 뒤 거절하고, 시간이 지나면 분당 속도로 다시 채운다.")
+    void tokenBucketTest() {
+        TokenBucket bucket = new TokenBucket(2, 60, 0);
+
+        assertThat(bucket.tryConsume(0)).isTrue();
+        assertThat(bucket.tryConsume(0)).isTrue();
+        assertThat(bucket.tryConsume(0)).isFalse();
+        assertThat(bucket.nanosUntilNextToken(0)).isEqualTo(SECOND);
+
+        assertThat(bucket.tryConsume(SECOND)).isTrue();
+        assertThat(bucket.availableTokens(60 * SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로그인은 같은 이메일로 제한을 넘으면 429 를 반환하고, 다른 이메일은 통과시킨다.")
+    void limitsLoginByEmail() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter(true, 100, 100, 2, 10, 3, 60, 60);
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+
+        assertThat(login(filter, "member@test.com").getStatus()).isEqualTo(200);
+        assertThat(login(filter, "MEMBER@test.com").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = login(filter, "member@test.com");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+        assertThat(login(filter, "other@test.com").getStatus()).isEqualTo(200);
+
+        RateLimitStats loginEmail = rateLimiter.stats().stream()
+                .filter(stats -> stats.getName().equals("login-email"))
+                .findAny().orElseThrow();
+        assertThat(loginEmail.getRejectedCount()).isEqualTo(1);
+        assertThat(loginEmail.getActiveBuckets()).isEqualTo(2);
+        assertThat(loginEmail.getEmptyBuckets()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터가 읽은 본문은 다음 필터에서 그대로 다시 읽을 수 있다.")
+    void replaysRequestBody() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(true, 100, 100, 100, 10, 3, 60, 60), new ObjectMapper());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(loginRequest("member@test.com"), new MockHttpServletResponse(), chain);
+
+        String body = new String(((HttpServletRequest) chain.getRequest()).getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body).isEqualTo(loginBody("member@test.com"));
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 본문은 끝까지 읽지 않고 413 으로 거절한다. 길이를 모르는 본문도 마찬가지다.")
+    void rejectsOversizedBody() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(true, 100, 100, 100, 10, 3, 60, 60), new ObjectMapper());
+        MockHttpServletRequest chunked = loginRequest("member@test.com");
+        byte[] large = new byte[64 * 1024];
+        chunked.setContent(large);
+        chunked.addHeader("Transfer-Encoding", "chunked");
+        chunked.removeHeader("Content-Length");
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(chunked, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("다시 읽는 본문에 ReadListener 를 달면 바로 읽을 수 있고 끝났다고 알린다.")
+    void replayedBodySupportsReadListener() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(loginRequest("member@test.com"), new byte[]{'{', '}'});
+        List<String> events = new ArrayList<>();
+
+        request.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 경로와 비활성화된 설정은 그대로 통과시킨다.")
+    void ignoresOtherRequests() throws Exception {
+        RateLimitFilter disabled = new RateLimitFilter(new RateLimiter(false, 100, 1, 1, 1, 1, 1, 1), new ObjectMapper());
+        RateLimitFilter enabled = new RateLimitFilter(new RateLimiter(true, 100, 1, 1, 1, 1, 1, 1), new ObjectMapper());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(login(disabled, "member@test.com").getStatus()).isEqualTo(200);
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            enabled.doFilter(new MockHttpServletRequest("GET", "/api/v1/posts"), response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse login(RateLimitFilter filter, String email) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(loginRequest(email), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest loginRequest(String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/members/login");
+        request.setContentType("application/json");
+        request.setContent(loginBody(email).getBytes(StandardCharsets.UTF_8));
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    private String loginBody(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"password\"}";
+    }
+}
@@ -0,0 +1,62 @@
+package com.ll.netmong.base.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    @Test
+    @DisplayName("풀과 대기열이 모두 차면 기다리지 않고 PasswordHashingBusyException 으로 거절한다.")
+    void rejectsWhenQueueIsFull() throws Exception {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            CompletableFuture<String> running = executor.submit(() -> {
+                started.countDown();
+                await(release);
+                return "running";
+            });
+            started.await();
+            CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+            assertThat(executor.queueDepth()).isEqualTo(1);
+            assertThatThrownBy(() -> executor.submit(() -> "rejected"))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+
+            release.countDown();
+            assertThat(running.join()).isEqualTo("running");
+            assertThat(queued.join()).isEqualTo("queued");
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("call()은 작업에서 던진 예외를 감싸지 않고 그대로 던진다.")
+    void callRethrowsCause() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1);
+
+        assertThatThrownBy(() -> executor.call(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
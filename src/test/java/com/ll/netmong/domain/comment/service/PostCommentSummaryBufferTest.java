@@ -0,0 +1,129 @@
+package com.ll.netmong.domain.comment.service;
+
+import com.ll.netmong.domain.post.entity.CommentPreview;
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.postComment.entity.PostComment;
+import com.ll.netmong.domain.postComment.repository.PostCommentRepository;
+import com.ll.netmong.domain.postComment.service.PostCommentSummaryBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostCommentSummaryBufferTest {
+
+    @Autowired
+    private PostCommentSummaryBuffer postCommentSummaryBuffer;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostCommentRepository postCommentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post first;
+    private Post second;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_comment WHERE post_id IN (?, ?)", first.getId(), second.getId());
+        postRepository.deleteAllById(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("모아둔 댓글 수 변화와 최근 댓글을 게시물에 한 번에 반영한다.")
+    void flush() {
+        first = postRepository.save(Post.builder().title("댓글1").writer("작성자").content("내용").build());
+        second = postRepository.save(Post.builder().title("댓글2").writer("작성자").content("내용").build());
+
+        postCommentSummaryBuffer.added(first.getId(), 101L, "user1", "첫 댓글");
+        postCommentSummaryBuffer.added(first.getId(), 102L, "user2", "두번째 댓글");
+        postCommentSummaryBuffer.added(second.getId(), 103L, "user1", "a".repeat(80));
+        postCommentSummaryBuffer.flush();
+
+        postCommentSummaryBuffer.added(first.getId(), 104L, "user3", "세번째 댓글");
+        postCommentSummaryBuffer.added(first.getId(), 105L, "user1", "네번째 댓글");
+        postCommentSummaryBuffer.removed(first.getId(), 104L);
+        postCommentSummaryBuffer.flush();
+
+        Post flushedFirst = postRepository.findById(first.getId()).orElseThrow();
+        assertThat(flushedFirst.getCommentsCount()).isEqualTo(3L);
+        assertThat(flushedFirst.getLatestComments()).extracting(CommentPreview::getCommentId)
+                .containsExactly(105L, 102L, 101L);
+
+        Post flushedSecond = postRepository.findById(second.getId()).orElseThrow();
+        assertThat(flushedSecond.getCommentsCount()).isEqualTo(1L);
+        assertThat(flushedSecond.getLatestComments().get(0).getContent()).hasSize(51);
+    }
+
+    @Test
+    @DisplayName("수정되거나 블라인드된 댓글은 미리보기에서 같은 id 의 내용만 바뀐다.")
+    void flushEdited() {
+        first = postRepository.save(Post.builder().title("댓글1").writer("작성자").content("내용").build());
+        second = postRepository.save(Post.builder().title("댓글2").writer("작성자").content("내용").build());
+
+        postCommentSummaryBuffer.added(first.getId(), 201L, "user1", "원래 댓글");
+        postCommentSummaryBuffer.added(first.getId(), 202L, "user2", "다른 댓글");
+        postCommentSummaryBuffer.flush();
+
+        postCommentSummaryBuffer.edited(first.getId(), 201L, "수정한 댓글");
+        postCommentSummaryBuffer.edited(first.getId(), 202L, "신고가 누적되어 블라인드 처리되었습니다.");
+        postCommentSummaryBuffer.edited(second.getId(), 203L, "미리보기에 없는 댓글");
+        postCommentSummaryBuffer.flush();
+
+        Post flushedFirst = postRepository.findById(first.getId()).orElseThrow();
+        assertThat(flushedFirst.getCommentsCount()).isEqualTo(2L);
+        assertThat(flushedFirst.getLatestComments()).extracting(CommentPreview::getContent)
+                .containsExactly("신고가 누적되어 블라인드 처리되었습니다.", "수정한 댓글");
+        assertThat(flushedFirst.getLatestComments()).extracting(CommentPreview::getUsername)
+                .containsExactly("user2", "user1");
+
+        assertThat(postRepository.findById(second.getId()).orElseThrow().getLatestComments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 댓글로 댓글 수와 최근 댓글을 한 번만 채운다.")
+    void backfill() {
+        first = postRepository.save(Post.builder().title("댓글1").writer("작성자").content("내용").build());
+        second = postRepository.save(Post.builder().title("댓글2").writer("작성자").content("내용").build());
+        List<PostComment> comments = postCommentRepository.saveAll(List.of(
+                comment(first, "user1", "첫 댓글", false),
+                comment(first, "user2", "두번째 댓글", false),
+                comment(first, "user3", "삭제된 댓글", true),
+                comment(first, "user1", "세번째 댓글", false),
+                comment(first, "user2", "네번째 댓글", false)));
+        jdbcTemplate.update("DELETE FROM backfill_marker WHERE name = 'post-comment-summaries'");
+
+        postCommentSummaryBuffer.afterSingletonsInstantiated();
+
+        Post filledFirst = postRepository.findById(first.getId()).orElseThrow();
+        assertThat(filledFirst.getCommentsCount()).isEqualTo(4L);
+        assertThat(filledFirst.getLatestComments()).extracting(CommentPreview::getCommentId)
+                .containsExactly(comments.get(4).getId(), comments.get(3).getId(), comments.get(1).getId());
+        assertThat(filledFirst.getLatestComments()).extracting(CommentPreview::getUsername)
+                .containsExactly("user2", "user1", "user2");
+
+        Post filledSecond = postRepository.findById(second.getId()).orElseThrow();
+        assertThat(filledSecond.getCommentsCount()).isZero();
+        assertThat(filledSecond.getLatestComments()).isEmpty();
+
+        // 이미 채운 뒤에는 다시 기동해도 다시 세지 않는다.
+        postCommentSummaryBuffer.added(first.getId(), comments.get(4).getId() + 1, "user3", "새 댓글");
+        postCommentSummaryBuffer.flush();
+        postCommentSummaryBuffer.afterSingletonsInstantiated();
+        assertThat(postRepository.findById(first.getId()).orElseThrow().getCommentsCount()).isEqualTo(5L);
+    }
+
+    private PostComment comment(Post post, String username, String content, boolean deleted) {
+        return PostComment.builder().post(post).username(username).content(content)
+                .isDeleted(deleted).isBlinded(false).build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ll.netmong.domain.comment.service;
+
+import com.ll.netmong.domain.member.dto.JoinRequest;
+import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.service.MemberService;
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.postComment.dto.request.PostCommentRequest;
+import com.ll.netmong.domain.postComment.dto.response.PostCommentResponse;
+import com.ll.netmong.domain.postComment.service.PostCommentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostCommentTreeTest {
+
+    @Autowired
+    private PostCommentService postCommentService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("getCommentsOfPost()는 최상위 댓글 페이지 아래의 모든 깊이의 대댓글을 트리로 반환한다.")
+    void getCommentsOfPostTreeTest() {
+        //given
+        JoinRequest joinRequest = new JoinRequest();
+        joinRequest.setUsername("treeUser");
+        joinRequest.setEmail("tree@test.com");
+        joinRequest.setPassword("password1");
+        joinRequest.setRealname("tree");
+        Member member = memberService.createMember(joinRequest);
+        UserDetails userDetails = new User(member.getEmail(), "password1", new ArrayList<>());
+
+        Post post = postRepository.save(Post.builder()
+                .title("title")
+                .content("content")
+                .writer(member.getUsername())
+                .member(member)
+                .comments(new ArrayList<>())
+                .build());
+
+        PostCommentResponse root1 = postCommentService.addPostComment(post.getId(), request("root1"), userDetails);
+        PostCommentResponse root2 = postCommentService.addPostComment(post.getId(), request("root2"), userDetails);
+        em.flush();
+        em.clear();
+        PostCommentResponse reply1 = postCommentService.addReplyToComment(root1.getId(), request("reply1"), userDetails);
+        postCommentService.addReplyToComment(reply1.getId(), request("reply1-1"), userDetails);
+        postCommentService.addReplyToComment(root1.getId(), request("reply2"), userDetails);
+        postCommentService.addReplyToComment(root2.getId(), request("reply3"), userDetails);
+
+        em.flush();
+        em.clear();
+
+        //when
+        Page<PostCommentResponse> page = postCommentService.getCommentsOfPost(post.getId(), PageRequest.of(0, 10));
+
+        //then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        List<PostCommentResponse> roots = page.getContent();
+        assertThat(roots).extracting(PostCommentResponse::getContent).containsExactly("root1", "root2");
+
+        PostCommentResponse first = roots.get(0);
+        assertThat(first.getChildCommentsIds()).extracting(PostCommentResponse::getContent)
+                .containsExactly("reply1", "reply2");
+        PostCommentResponse nested = first.getChildCommentsIds().get(0);
+        assertThat(nested.getParentCommentId()).isEqualTo(root1.getId());
+        assertThat(nested.getChildCommentsIds()).extracting(PostCommentResponse::getContent)
+                .containsExactly("reply1-1");
+        assertThat(nested.getChildCommentsIds().get(0).getParentCommentId()).isEqualTo(reply1.getId());
+
+        assertThat(roots.get(1).getChildCommentsIds()).extracting(PostCommentResponse::getContent)
+                .containsExactly("reply3");
+    }
+
+    private PostCommentRequest request(String content) {
+        PostCommentRequest request = new PostCommentRequest();
+        request.setContent(content);
+        return request;
+    }
+}
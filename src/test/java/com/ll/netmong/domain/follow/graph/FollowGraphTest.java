@@ -0,0 +1,85 @@
+package com.ll.netmong.domain.follow.graph;
+
+import com.ll.netmong.domain.follow.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class FollowGraphTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    private FollowGraph followGraph;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        followGraph = new FollowGraph(followRepository);
+    }
+
+    @Test
+    @DisplayName("적재한 팔로우 관계는 정렬된 배열로 조회된다.")
+    void rebuildTest() {
+        when(followRepository.findAllEdges()).thenReturn(List.of(edge(1L, 5L), edge(1L, 3L), edge(2L, 3L)));
+
+        followGraph.rebuild();
+
+        assertThat(followGraph.findFollowingIds(1L)).containsExactly(3L, 5L);
+        assertThat(followGraph.findFollowerIds(3L)).containsExactly(1L, 2L);
+        assertThat(followGraph.isFollowing(1L, 5L)).isTrue();
+        assertThat(followGraph.isFollowing(5L, 1L)).isFalse();
+        assertThat(followGraph.countFollowers(3L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 전에 들어온 변경은 적재가 끝난 뒤 적용된다.")
+    void pendingChangesTest() {
+        when(followRepository.findAllEdges()).thenReturn(List.of(edge(1L, 3L)));
+
+        followGraph.added(1L, 2L);
+        followGraph.removed(1L, 3L);
+        followGraph.rebuild();
+
+        assertThat(followGraph.findFollowingIds(1L)).containsExactly(2L);
+        assertThat(followGraph.findFollowerIds(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("added/removed 는 양방향 인접 배열을 함께 갱신한다.")
+    void addAndRemoveTest() {
+        when(followRepository.findAllEdges()).thenReturn(List.of());
+        followGraph.rebuild();
+
+        followGraph.added(1L, 9L);
+        followGraph.added(1L, 4L);
+        followGraph.added(1L, 4L);
+        followGraph.added(2L, 4L);
+        followGraph.removed(1L, 9L);
+
+        assertThat(followGraph.findFollowingIds(1L)).containsExactly(4L);
+        assertThat(followGraph.findFollowerIds(4L)).containsExactly(1L, 2L);
+        assertThat(followGraph.countFollowers(9L)).isZero();
+    }
+
+    private FollowEdge edge(Long followerId, Long followeeId) {
+        return new FollowEdge() {
+            @Override
+            public Long getFollowerId() {
+                return followerId;
+            }
+
+            @Override
+            public Long getFolloweeId() {
+                return followeeId;
+            }
+        };
+    }
+}
@@ -2,17 +2,22 @@ package com.ll.netmong.domain.follow.service;
 
 import com.ll.netmong.domain.follow.dto.FollowCountDto;
 import com.ll.netmong.domain.follow.entity.Follow;
+import com.ll.netmong.domain.follow.exception.AlreadyFollowedException;
 import com.ll.netmong.domain.follow.exception.NotFollowedException;
 import com.ll.netmong.domain.member.dto.JoinRequest;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.service.MemberService;
+import com.ll.netmong.domain.timeline.repository.TimelineEntryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -29,6 +34,8 @@ class FollowServiceTest {
     private FollowService followService;
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
 
     @BeforeEach
     void setUp() {
@@ -139,4 +146,51 @@ class FollowServiceTest {
         //then
         assertThat(following).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("unfollow()는 팔로우 여부와 팔로우 수를 함께 되돌린다.")
+    public void unfollowUpdatesCountsTest() throws Exception {
+        //given
+        followService.follow(member3, member4);
+        followService.follow(member5, member4);
+
+        //when
+        followService.unfollow(member3, member4);
+
+        //then
+        assertThat(followService.isFollowing(member3, member4)).isFalse();
+        assertThat(followService.isFollowing(member5, member4)).isTrue();
+        assertThat(followService.countFollowerAndFollowee(member4).getFolloweeCount()).isEqualTo(1L);
+        assertThat(followService.countFollowerAndFollowee(member3).getFollowerCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("follow()는 이미 팔로우 중이면 AlreadyFollowedException을 던지고 팔로우 수를 늘리지 않는다.")
+    public void followTwiceTest() {
+        //given
+        followService.follow(member3, member4);
+
+        //when
+        //then
+        assertThatThrownBy(() -> followService.follow(member3, member4))
+                .isInstanceOf(AlreadyFollowedException.class);
+        assertThat(followService.countFollowerAndFollowee(member4).getFolloweeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("unfollow()는 이미 전달된 그 계정의 게시물을 타임라인에서 뺀다.")
+    public void unfollowRemovesTimelineEntriesTest() {
+        //given
+        followService.follow(member3, member4);
+        followService.follow(member3, member5);
+        timelineEntryRepository.insertAll(List.of(member3.getId()), 100L, member4.getId());
+        timelineEntryRepository.insertAll(List.of(member3.getId()), 101L, member5.getId());
+
+        //when
+        followService.unfollow(member3, member4);
+
+        //then
+        assertThat(timelineEntryRepository.findPostIdsByMemberIdBefore(member3.getId(), Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .containsExactly(101L);
+    }
+}
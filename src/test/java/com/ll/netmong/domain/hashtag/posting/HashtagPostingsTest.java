@@ -0,0 +1,119 @@
+package com.ll.netmong.domain.hashtag.posting;
+
+import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class HashtagPostingsTest {
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    private HashtagPostings hashtagPostings;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        hashtagPostings = new HashtagPostings(postHashtagRepository);
+    }
+
+    private HashtagPostRow row(String name, Long postId) {
+        return new HashtagPostRow() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("delta 로 압축한 id 목록을 순서 그대로 복원한다.")
+    void postingListRoundTrip() {
+        long[] postIds = {300L, 5L, 1_000_000_000_000L, 299L, 1L};
+
+        PostingList postingList = PostingList.of(postIds);
+
+        assertArrayEquals(postIds, postingList.toArray());
+        assertArrayEquals(new long[]{1_000_000_000_000L, 299L}, postingList.slice(2, 2));
+        assertArrayEquals(new long[]{299L, 300L, 5L, 1_000_000_000_000L, 1L}, postingList.moveToFront(299L).toArray());
+    }
+
+    @Test
+    @DisplayName("head 와 여러 블록에 걸친 목록도 앞으로 옮기기, 삭제, 구간 조회 결과가 평범한 목록과 같다.")
+    void postingListAcrossBlocks() {
+        Random random = new Random(42);
+        List<Long> expected = new ArrayList<>();
+        for (long postId = 1_000; postId > 0; postId--) {
+            expected.add(postId);
+        }
+        PostingList postingList = PostingList.of(expected.stream().mapToLong(Long::longValue).toArray());
+
+        for (int i = 0; i < 2_000; i++) {
+            long postId = 1 + random.nextInt(1_200);
+            if (random.nextInt(3) == 0) {
+                expected.remove(postId);
+                postingList = postingList.remove(postId);
+            } else {
+                expected.remove(postId);
+                expected.add(0, postId);
+                postingList = postingList.moveToFront(postId);
+            }
+        }
+
+        assertEquals(expected.size(), postingList.size());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), postingList.toArray());
+        for (int offset : new int[]{0, 63, 64, 65, 200, expected.size() - 3}) {
+            long[] slice = expected.subList(offset, Math.min(offset + 130, expected.size())).stream()
+                    .mapToLong(Long::longValue).toArray();
+            assertArrayEquals(slice, postingList.slice(offset, 130));
+        }
+    }
+
+    @Test
+    @DisplayName("적재 전 변경은 적재 후에 반영되고, 작성/수정된 게시물은 맨 앞에 온다.")
+    void rebuildAndUpdate() {
+        when(postHashtagRepository.findAllHashtagPostRows())
+                .thenReturn(List.of(row("산책", 3L), row("산책", 2L), row("공원", 2L), row("산책", 1L)));
+
+        hashtagPostings.touch(4L, List.of("산책"));
+        hashtagPostings.rebuild();
+        hashtagPostings.touch(1L, List.of("산책", "공원"));
+        hashtagPostings.remove(3L, List.of("산책"));
+
+        assertEquals(List.of(1L, 4L, 2L), hashtagPostings.findPostIds("산책", 0, 5));
+        assertEquals(List.of(2L), hashtagPostings.findPostIds("산책", 2, 5));
+        assertEquals(3, hashtagPostings.count("산책"));
+        assertEquals(List.of(1L, 2L), hashtagPostings.findPostIds("공원", 0, 5));
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 해시태그는 같은 목록에 모이고, 어느 표기로 찾아도 같은 결과를 준다.")
+    void mixedCaseNames() {
+        when(postHashtagRepository.findAllHashtagPostRows()).thenReturn(List.of(row("Java", 1L)));
+
+        hashtagPostings.rebuild();
+        hashtagPostings.touch(2L, List.of("java"));
+        hashtagPostings.touch(3L, List.of("JAVA"));
+        hashtagPostings.remove(1L, List.of("jAvA"));
+
+        assertEquals(List.of(3L, 2L), hashtagPostings.findPostIds("Java", 0, 5));
+        assertEquals(List.of(3L, 2L), hashtagPostings.findPostIds("java", 0, 5));
+        assertEquals(2, hashtagPostings.count("JAVA"));
+    }
+}
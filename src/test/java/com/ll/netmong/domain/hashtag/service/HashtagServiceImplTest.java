@@ -0,0 +1,126 @@
+package com.ll.netmong.domain.hashtag.service;
+
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+import com.ll.netmong.domain.hashtag.posting.HashtagPostings;
+import com.ll.netmong.domain.hashtag.repository.HashtagRepository;
+import com.ll.netmong.domain.hashtag.trending.TrendingHashtags;
+import com.ll.netmong.domain.post.dto.request.PostRequest;
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.postHashtag.entity.PostHashtag;
+import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@Transactional
+class HashtagServiceImplTest {
+
+    @Autowired
+    private HashtagService hashtagService;
+    @Autowired
+    private HashtagRepository hashtagRepository;
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // insertMissing 은 별도 트랜잭션으로 커밋되므로 테스트 롤백과 별개로 지워야 다른 테스트에 남지 않는다.
+    @AfterTransaction
+    void deleteCommittedHashtags() {
+        jdbcTemplate.update("DELETE FROM hashtag WHERE name IN ('벌크기존', '벌크신규', '벌크동시', '벌크동시2')");
+    }
+
+    @Test
+    @DisplayName("게시물의 해시태그를 중복 없이 한 번에 저장하고, 이미 있는 해시태그는 재사용한다.")
+    void saveHashtag() {
+        //given
+        Hashtag existing = hashtagRepository.insertMissing(List.of("벌크기존")).get(0);
+        Post post = postRepository.save(Post.builder()
+                .title("해시태그")
+                .writer("작성자")
+                .content("#벌크기존 #벌크신규 #벌크기존")
+                .build());
+
+        PostRequest postRequest = new PostRequest();
+        postRequest.setContent(post.getContent());
+
+        //when
+        List<Hashtag> hashtags = hashtagService.saveHashtag(postRequest, post);
+
+        //then
+        Assertions.assertThat(hashtags).extracting(Hashtag::getName).containsExactlyInAnyOrder("벌크기존", "벌크신규");
+        Assertions.assertThat(hashtags).extracting(Hashtag::getId).contains(existing.getId());
+        Assertions.assertThat(postHashtagRepository.findByPostId(post.getId()))
+                .extracting(PostHashtag::getName)
+                .containsExactlyInAnyOrder("벌크기존", "벌크신규");
+    }
+
+    @Test
+    @DisplayName("이미 다른 요청이 만든 해시태그를 다시 추가해도 중복 없이 기존 해시태그를 돌려준다.")
+    void insertMissingIgnoresDuplicates() {
+        Hashtag first = hashtagRepository.insertMissing(List.of("벌크동시")).get(0);
+
+        List<Hashtag> second = hashtagRepository.insertMissing(List.of("벌크동시", "벌크동시2"));
+
+        Assertions.assertThat(second).extracting(Hashtag::getName).containsExactlyInAnyOrder("벌크동시", "벌크동시2");
+        Assertions.assertThat(second).extracting(Hashtag::getId).contains(first.getId());
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 해시태그는 기존 해시태그를 한 번만 재사용한다.")
+    void findOrCreateHashtagsIgnoresCase() {
+        HashtagRepository repository = mock(HashtagRepository.class);
+        Hashtag java = mock(Hashtag.class);
+        when(java.getId()).thenReturn(1L);
+        when(java.getName()).thenReturn("Java");
+        // MariaDB 는 name IN ('java', 'JAVA') 에 기존 'Java' 행을 돌려준다.
+        when(repository.findByNameIn(anyCollection())).thenReturn(List.of(java));
+        HashtagServiceImpl service = new HashtagServiceImpl(repository, mock(PostHashtagRepository.class),
+                mock(HashtagPostings.class), mock(TrendingHashtags.class));
+
+        List<Hashtag> hashtags = service.findOrCreateHashtags(List.of("java", "JAVA"));
+
+        Assertions.assertThat(hashtags).containsExactly(java);
+        verify(repository, never()).insertMissing(anyCollection());
+    }
+
+    @Test
+    @DisplayName("게시물 작성 후 검색 목록과 인기 해시태그에는 저장된 해시태그 이름으로 반영한다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void saveHashtagRecordsCanonicalNames() {
+        HashtagRepository repository = mock(HashtagRepository.class);
+        HashtagPostings postings = mock(HashtagPostings.class);
+        TrendingHashtags trending = mock(TrendingHashtags.class);
+        Hashtag java = mock(Hashtag.class);
+        when(java.getId()).thenReturn(1L);
+        when(java.getName()).thenReturn("Java");
+        when(repository.findByNameIn(anyCollection())).thenReturn(List.of(java));
+        HashtagServiceImpl service = new HashtagServiceImpl(repository, mock(PostHashtagRepository.class), postings, trending);
+        Post post = Post.builder().id(7L).content("#java").build();
+        PostRequest postRequest = new PostRequest();
+        postRequest.setContent(post.getContent());
+
+        service.saveHashtag(postRequest, post);
+
+        verify(postings).touch(7L, List.of("Java"));
+        verify(trending).record(List.of("Java"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.ll.netmong.domain.hashtag.trending;
+
+import com.ll.netmong.domain.hashtag.dto.response.TrendingHashtagResponse;
+import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class TrendingHashtagsTest {
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    private MutableClock clock;
+    private TrendingHashtags trendingHashtags;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        clock = new MutableClock(Instant.parse("2023-12-01T00:00:00Z"));
+        trendingHashtags = new TrendingHashtags(postHashtagRepository, clock, 60, 30, 3);
+    }
+
+    private HashtagUsageRow usage(String name, Instant at) {
+        return new HashtagUsageRow() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public LocalDateTime getCreateDate() {
+                return LocalDateTime.ofInstant(at, ZoneId.systemDefault());
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("최근에 많이 쓰인 해시태그가 위에 오고 상위 K 개만 반환한다.")
+    void recordAndRank() {
+        trendingHashtags.record(List.of("산책", "공원"));
+        clock.plusMinutes(10);
+        trendingHashtags.record(List.of("공원", "강아지", "카페"));
+        trendingHashtags.record(List.of("강아지"));
+
+        List<TrendingHashtagResponse> top = trendingHashtags.getTop(10);
+
+        assertEquals(3, top.size());
+        assertEquals(List.of("강아지", "공원", "카페"), top.stream().map(TrendingHashtagResponse::getName).toList());
+        assertEquals(2L, top.get(1).getCount());
+    }
+
+    @Test
+    @DisplayName("시작 시 DB에서 적재하고, window 를 벗어난 사용은 분이 바뀔 때 빠진다.")
+    void bootstrapAndExpire() {
+        Instant now = clock.instant();
+        when(postHashtagRepository.findHashtagUsagesSince(any())).thenReturn(List.of(
+                usage("오래된", now.minusSeconds(50 * 60)),
+                usage("오래된", now.minusSeconds(50 * 60)),
+                usage("오래된", now.minusSeconds(50 * 60)),
+                usage("오래된", now.minusSeconds(50 * 60)),
+                usage("최근", now.minusSeconds(60))));
+
+        trendingHashtags.bootstrap();
+        assertEquals("오래된", trendingHashtags.getTop(1).get(0).getName());
+
+        clock.plusMinutes(15);
+        trendingHashtags.rollover();
+
+        List<TrendingHashtagResponse> top = trendingHashtags.getTop(10);
+        assertEquals(List.of("최근"), top.stream().map(TrendingHashtagResponse::getName).toList());
+        assertTrue(top.get(0).getScore() < 1.0);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void plusMinutes(long minutes) {
+            instant = instant.plusSeconds(minutes * 60);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ll.netmong.domain.likedPost.service;
+
+import com.ll.netmong.domain.likedPost.repository.LikedPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LikedPostCacheTest {
+
+    @Mock
+    private LikedPostRepository likedPostRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LikedPostCache likedPostCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        likedPostCache = new LikedPostCache(likedPostRepository, transactionManager, 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 적재하고 이후에는 메모리에서 좋아요 여부를 판단한다.")
+    void findLikedPostIds() {
+        when(likedPostRepository.findPostIdsByEmail("test@test.com")).thenReturn(List.of(1L, 3L, 70000L));
+
+        Set<Long> first = likedPostCache.findLikedPostIds("test@test.com", List.of(1L, 2L, 3L));
+        boolean liked = likedPostCache.isLiked("test@test.com", 70000L);
+
+        assertEquals(Set.of(1L, 3L), first);
+        assertTrue(liked);
+        verify(likedPostRepository, times(1)).findPostIdsByEmail("test@test.com");
+        verify(likedPostRepository, never()).findLikedPostIdsByEmailAndPostIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 추가/취소가 캐시된 비트맵에 바로 반영된다.")
+    void addedAndRemoved() {
+        when(likedPostRepository.findPostIdsByEmail("test@test.com")).thenReturn(List.of(1L));
+        likedPostCache.isLiked("test@test.com", 1L);
+
+        likedPostCache.added("test@test.com", 5L);
+        likedPostCache.removed("test@test.com", 1L);
+
+        assertTrue(likedPostCache.isLiked("test@test.com", 5L));
+        assertFalse(likedPostCache.isLiked("test@test.com", 1L));
+        verify(likedPostRepository, times(1)).findPostIdsByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 회원을 제거해 한도 안으로 유지한다.")
+    void evictLeastRecentlyUsed() {
+        likedPostCache = new LikedPostCache(likedPostRepository, transactionManager, 1000);
+        when(likedPostRepository.findPostIdsByEmail(anyString())).thenReturn(List.of(1L));
+
+        for (int i = 0; i < 10; i++) {
+            likedPostCache.isLiked("member" + i + "@test.com", 1L);
+        }
+
+        assertTrue(likedPostCache.sizeInBytes() <= 1000);
+        assertTrue(likedPostCache.size() < 10);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 동시 캐시 미스는 한 번만 적재한다.")
+    void collapseConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(likedPostRepository.findPostIdsByEmail("test@test.com")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(1L);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> likedPostCache.isLiked("test@test.com", 1L)));
+            }
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(likedPostRepository, times(1)).findPostIdsByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("적재 중에 좋아요가 바뀌면 그 스냅샷은 캐시하지 않고 다음 조회에서 다시 적재한다.")
+    void discardStaleSnapshot() throws Exception {
+        when(likedPostRepository.findPostIdsByEmail("test@test.com"))
+                .thenAnswer(invocation -> {
+                    Thread change = new Thread(() -> likedPostCache.added("test@test.com", 5L));
+                    change.start();
+                    change.join(5_000);
+                    return List.of(1L);
+                })
+                .thenReturn(List.of(1L, 5L));
+        when(likedPostRepository.findLikedPostIdsByEmailAndPostIdIn("test@test.com", List.of(5L))).thenReturn(List.of(5L));
+
+        assertTrue(likedPostCache.isLiked("test@test.com", 5L));
+        assertTrue(likedPostCache.isLiked("test@test.com", 5L));
+        verify(likedPostRepository, times(2)).findPostIdsByEmail("test@test.com");
+        assertEquals(1, likedPostCache.size());
+    }
+}
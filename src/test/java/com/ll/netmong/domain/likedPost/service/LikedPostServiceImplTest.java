@@ -22,6 +22,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class LikedPostServiceImplTest {
@@ -33,6 +34,10 @@ class LikedPostServiceImplTest {
     @Mock
     private LikedPostRepository likedPostRepository;
     @Mock
+    private PostLikeCountBuffer postLikeCountBuffer;
+    @Mock
+    private LikedPostCache likedPostCache;
+    @Mock
     private UserDetails userDetails;
     @InjectMocks
     private LikedPostServiceImpl likedPostService;
@@ -78,6 +83,8 @@ class LikedPostServiceImplTest {
         likedPostService.addLike(post, userDetails);
 
         verify(likedPostRepository, times(1)).save(any());
+        verify(postLikeCountBuffer, times(1)).record(any(), eq(1L));
+        verify(likedPostCache, times(1)).added(any(), any());
     }
 
     @Test
@@ -88,6 +95,8 @@ class LikedPostServiceImplTest {
         likedPostService.removeLike(post, userDetails);
 
         verify(likedPostRepository, times(1)).delete(any());
+        verify(postLikeCountBuffer, times(1)).record(any(), eq(-1L));
+        verify(likedPostCache, times(1)).removed(any(), any());
         assertFalse(post.getLikes().contains(likedPost));
     }
 
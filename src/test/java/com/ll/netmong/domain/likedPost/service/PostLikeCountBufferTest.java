@@ -0,0 +1,47 @@
+package com.ll.netmong.domain.likedPost.service;
+
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class PostLikeCountBufferTest {
+
+    @Autowired
+    private PostLikeCountBuffer postLikeCountBuffer;
+    @Autowired
+    private PostRepository postRepository;
+
+    private Post first;
+    private Post second;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllById(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("모아둔 좋아요 증감을 여러 게시물에 한 번에 반영한다.")
+    void flush() {
+        first = postRepository.save(Post.builder().title("좋아요1").writer("작성자").content("내용").build());
+        second = postRepository.save(Post.builder().title("좋아요2").writer("작성자").content("내용").build());
+
+        postLikeCountBuffer.record(first.getId(), 1L);
+        postLikeCountBuffer.record(first.getId(), 1L);
+        postLikeCountBuffer.record(second.getId(), 1L);
+        postLikeCountBuffer.record(second.getId(), -1L);
+        postLikeCountBuffer.record(first.getId(), 1L);
+        postLikeCountBuffer.flush();
+
+        assertEquals(3L, postRepository.findById(first.getId()).orElseThrow().getLikesCount());
+        assertEquals(0L, postRepository.findById(second.getId()).orElseThrow().getLikesCount());
+    }
+}
@@ -0,0 +1,80 @@
+package com.ll.netmong.domain.park.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridTest {
+
+    private static final int SIZE = 5_000;
+
+    private final long[] ids = new long[SIZE];
+    private final double[] latitudes = new double[SIZE];
+    private final double[] longitudes = new double[SIZE];
+
+    GeoGridTest() {
+        // 국내 범위에 흩뿌린 임의의 공원
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            ids[i] = i + 1;
+            latitudes[i] = 33 + random.nextDouble() * 5.5;
+            longitudes[i] = 125 + random.nextDouble() * 5;
+        }
+    }
+
+    @Test
+    @DisplayName("within()은 전체를 훑은 결과와 같은 공원을 가까운 순으로 반환한다.")
+    void withinMatchesBruteForce() {
+        GeoGrid grid = new GeoGrid(0.05, ids, latitudes, longitudes);
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        long[] expected = bruteForce(latitude, longitude).filter(i -> distance(latitude, longitude, i) <= 20_000)
+                .mapToLong(i -> ids[i]).toArray();
+        GeoGrid.Neighbor[] result = grid.within(latitude, longitude, 20_000, SIZE);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(Arrays.stream(result).mapToLong(GeoGrid.Neighbor::getId).toArray()).containsExactly(expected);
+        assertThat(result[0].getDistanceMeters()).isLessThanOrEqualTo(result[result.length - 1].getDistanceMeters());
+    }
+
+    @Test
+    @DisplayName("nearest()는 격자 칸 경계와 관계없이 전체에서 가장 가까운 k 개를 반환한다.")
+    void nearestMatchesBruteForce() {
+        GeoGrid grid = new GeoGrid(0.05, ids, latitudes, longitudes);
+
+        for (double[] point : new double[][]{{35.1796, 129.0756}, {33.0, 125.0}, {38.5, 130.0}, {36.35, 127.38}}) {
+            long[] expected = bruteForce(point[0], point[1]).limit(7).mapToLong(i -> ids[i]).toArray();
+            GeoGrid.Neighbor[] result = grid.nearest(point[0], point[1], 7, 600_000);
+
+            assertThat(Arrays.stream(result).mapToLong(GeoGrid.Neighbor::getId).toArray()).containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("비어 있거나 범위 밖을 조회하면 빈 결과를 반환한다.")
+    void emptyResults() {
+        GeoGrid empty = new GeoGrid(0.05, new long[0], new double[0], new double[0]);
+        GeoGrid grid = new GeoGrid(0.05, ids, latitudes, longitudes);
+
+        assertThat(empty.nearest(37.5, 127.0, 5, 600_000)).isEmpty();
+        assertThat(grid.within(0, 0, 1_000, 10)).isEmpty();
+        assertThat(grid.nearest(0, 0, 3, 1_000)).isEmpty();
+    }
+
+    private IntStream bruteForce(double latitude, double longitude) {
+        return IntStream.range(0, SIZE).boxed()
+                .sorted(Comparator.comparingDouble(i -> distance(latitude, longitude, i)))
+                .mapToInt(Integer::intValue);
+    }
+
+    private double distance(double latitude, double longitude, int i) {
+        return GeoGrid.distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+    }
+}
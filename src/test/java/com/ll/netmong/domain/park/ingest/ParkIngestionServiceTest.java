@@ -0,0 +1,304 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.member.dto.JoinRequest;
+import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.service.MemberService;
+import com.ll.netmong.domain.park.entity.Park;
+import com.ll.netmong.domain.park.repository.ParkRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ParkIngestionServiceTest {
+    private static final int TOTAL_COUNT = 5;
+    private static final HttpServer server = startServer();
+    private static final Map<Integer, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private static final Set<Integer> failingPages = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> renamedItems = ConcurrentHashMap.newKeySet();
+    private static volatile int totalCount = TOTAL_COUNT;
+
+    @Autowired
+    private ParkIngestionService parkIngestionService;
+    @Autowired
+    private ParkRepository parkRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberService memberService;
+
+    @DynamicPropertySource
+    static void parkApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("custom.park.api.base-url", () -> "http://127.0.0.1:" + server.getAddress().getPort() + "/parks");
+        registry.add("custom.park.api.max-attempts", () -> 1);
+        registry.add("custom.park.ingest.page-size", () -> 2);
+        registry.add("custom.park.ingest.parallelism", () -> 2);
+        registry.add("custom.park.ingest.max-delete-ratio", () -> 0.5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requests.clear();
+        failingPages.clear();
+        renamedItems.clear();
+        totalCount = TOTAL_COUNT;
+        jdbcTemplate.update("DELETE FROM park_ingestion_page");
+        jdbcTemplate.update("DELETE FROM park_ingestion_run");
+        jdbcTemplate.update("DELETE FROM liked_park WHERE park_id IN (SELECT id FROM park WHERE lnmadr LIKE '서울특별시 강남구 역삼동 %')");
+        jdbcTemplate.update("DELETE FROM park_comment WHERE park_id IN (SELECT id FROM park WHERE lnmadr LIKE '서울특별시 강남구 역삼동 %')");
+        jdbcTemplate.update("DELETE FROM park WHERE lnmadr LIKE '서울특별시 강남구 역삼동 %'");
+        jdbcTemplate.update("DELETE FROM member WHERE email LIKE 'park-ingest-%'");
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("ingest()는 모든 페이지를 가져와 저장하고, 다시 실행하면 지문이 바뀐 공원만 갱신한다.")
+    void ingestAndSyncChangedTest() {
+        ParkIngestionResult first = parkIngestionService.ingest();
+
+        assertThat(first.getTotalPages()).isEqualTo(3);
+        assertThat(first.getInserted()).isEqualTo(TOTAL_COUNT);
+        assertThat(stubParkCount()).isEqualTo(TOTAL_COUNT);
+
+        ParkIngestionResult unchanged = parkIngestionService.ingest();
+
+        assertThat(unchanged.hasChanges()).isFalse();
+        assertThat(unchanged.getUnchanged()).isEqualTo(TOTAL_COUNT);
+
+        renamedItems.add(3);
+        ParkIngestionResult renamed = parkIngestionService.ingest();
+        Park park = findByManageNo("STUB-3");
+
+        assertThat(renamed.isResumed()).isFalse();
+        assertThat(renamed.getInserted()).isZero();
+        assertThat(renamed.getUpdated()).isEqualTo(1);
+        assertThat(renamed.getUnchanged()).isEqualTo(TOTAL_COUNT - 1);
+        assertThat(stubParkCount()).isEqualTo(TOTAL_COUNT);
+        assertThat(park.getParkNm()).isEqualTo("공원3-renamed");
+        assertThat(park.getState()).isEqualTo("서울특별시");
+        assertThat(park.getCity()).isEqualTo("강남구");
+    }
+
+    @Test
+    @DisplayName("API 에서 빠진 공원은 삭제 표시만 하고, 다시 나오면 같은 행을 되살린다.")
+    void softDeleteAndRestoreTest() {
+        parkIngestionService.ingest();
+        Long id = findByManageNo("STUB-5").getId();
+
+        totalCount = TOTAL_COUNT - 1;
+        ParkIngestionResult removed = parkIngestionService.ingest();
+
+        assertThat(removed.getDeleted()).isEqualTo(1);
+        assertThat(findByManageNo("STUB-5").getIsDeleted()).isTrue();
+        assertThat(parkRepository.findAllCatalogRows()).noneMatch(row -> row.getId().equals(id));
+
+        totalCount = TOTAL_COUNT;
+        ParkIngestionResult restored = parkIngestionService.ingest();
+
+        assertThat(restored.getInserted()).isZero();
+        assertThat(restored.getUpdated()).isEqualTo(1);
+        assertThat(findByManageNo("STUB-5").getId()).isEqualTo(id);
+        assertThat(findByManageNo("STUB-5").getIsDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("관리번호가 없는 예전 행은 이름과 주소가 같은 공원이 이어받아 id 가 유지된다.")
+    void adoptLegacyRowTest() {
+        Long legacyId = parkRepository.save(Park.builder()
+                .parkNm("공원1")
+                .lnmadr("서울특별시 강남구 역삼동 1")
+                .state("서울특별시")
+                .city("강남구")
+                .build()).getId();
+
+        ParkIngestionResult result = parkIngestionService.ingest();
+
+        assertThat(result.getInserted()).isEqualTo(TOTAL_COUNT - 1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(findByManageNo("STUB-1").getId()).isEqualTo(legacyId);
+    }
+
+    @Test
+    @DisplayName("이어받지 못한 예전 중복 행은 삭제 비율 제한과 상관없이 삭제 표시한다.")
+    void deleteLegacyDuplicatesTest() {
+        // 예전 행 5개 중 3개가 중복이라 삭제 비율 제한(0.5)을 넘는다.
+        Long adoptedId = saveLegacyPark(1);
+        for (int i = 0; i < 4; i++) {
+            saveLegacyPark(2);
+        }
+
+        ParkIngestionResult result = parkIngestionService.ingest();
+
+        assertThat(result.getDeleted()).isEqualTo(3);
+        assertThat(findByManageNo("STUB-1").getId()).isEqualTo(adoptedId);
+        assertThat(activeParkIds("공원2")).containsExactly(findByManageNo("STUB-2").getId());
+
+        // 관리번호가 있는 공원과 이름, 주소가 같은 예전 행도 중복으로 지운다.
+        saveLegacyPark(3);
+        ParkIngestionResult next = parkIngestionService.ingest();
+
+        assertThat(next.getDeleted()).isEqualTo(1);
+        assertThat(activeParkIds("공원3")).containsExactly(findByManageNo("STUB-3").getId());
+    }
+
+    @Test
+    @DisplayName("예전 중복 행의 좋아요와 댓글은 삭제 표시하기 전에 남는 행으로 옮긴다.")
+    void moveLegacyDuplicateReferencesTest() {
+        Long adoptedId = saveLegacyPark(2);
+        Long duplicateId = saveLegacyPark(2);
+        Member onlyDuplicate = join(1);
+        Member both = join(2);
+        like(adoptedId, both);
+        like(duplicateId, both);
+        like(duplicateId, onlyDuplicate);
+        jdbcTemplate.update("INSERT INTO park_comment (park_id, content, is_deleted, username) VALUES (?, '댓글', false, 'user')",
+                duplicateId);
+
+        ParkIngestionResult result = parkIngestionService.ingest();
+
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(activeParkIds("공원2")).containsExactly(adoptedId);
+        assertThat(jdbcTemplate.queryForList("SELECT member_id FROM liked_park WHERE park_id = ?", Long.class, adoptedId))
+                .containsExactlyInAnyOrder(onlyDuplicate.getId(), both.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT likes_count FROM park WHERE id = ?", Long.class, adoptedId)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM liked_park WHERE park_id = ?", Integer.class, duplicateId)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT park_id FROM park_comment WHERE content = '댓글'", Long.class))
+                .containsExactly(adoptedId);
+    }
+
+    @Test
+    @DisplayName("페이지가 실패하면 적재를 실패로 남기고, 다음 실행은 실패한 페이지만 다시 가져온다.")
+    void resumeAfterFailureTest() {
+        failingPages.add(2);
+
+        assertThatThrownBy(() -> parkIngestionService.ingest())
+                .isInstanceOf(ParkIngestionException.class)
+                .hasMessageContaining("[2]");
+        assertThat(stubParkCount()).isEqualTo(TOTAL_COUNT - 2);
+
+        failingPages.clear();
+        requests.clear();
+        ParkIngestionResult resumed = parkIngestionService.ingest();
+
+        assertThat(resumed.isResumed()).isTrue();
+        assertThat(resumed.getFetchedPages()).isEqualTo(1);
+        assertThat(requests.keySet()).containsExactly(2);
+        assertThat(resumed.getDeleted()).isZero();
+        assertThat(stubParkCount()).isEqualTo(TOTAL_COUNT);
+    }
+
+    private Park findByManageNo(String manageNo) {
+        return parkRepository.findAll().stream()
+                .filter(park -> manageNo.equals(park.getManageNo()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int stubParkCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM park WHERE manage_no LIKE 'STUB-%'", Integer.class);
+    }
+
+    private Long saveLegacyPark(int item) {
+        return parkRepository.save(Park.builder()
+                .parkNm("공원" + item)
+                .lnmadr("서울특별시 강남구 역삼동 " + item)
+                .state("서울특별시")
+                .city("강남구")
+                .build()).getId();
+    }
+
+    private Member join(int index) {
+        JoinRequest joinRequest = new JoinRequest();
+        joinRequest.setUsername("parkIngest" + index);
+        joinRequest.setEmail("park-ingest-" + index + "@mam.com");
+        joinRequest.setPassword("password1");
+        joinRequest.setRealname("real" + index);
+        return memberService.createMember(joinRequest);
+    }
+
+    // 좋아요는 행과 좋아요 수를 함께 늘린다.
+    private void like(Long parkId, Member member) {
+        jdbcTemplate.update("INSERT INTO liked_park (park_id, member_id) VALUES (?, ?)", parkId, member.getId());
+        jdbcTemplate.update("UPDATE park SET likes_count = likes_count + 1 WHERE id = ?", parkId);
+    }
+
+    private List<Long> activeParkIds(String parkNm) {
+        return jdbcTemplate.queryForList("SELECT id FROM park WHERE park_nm = ? AND is_deleted = false", Long.class, parkNm);
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            httpServer.createContext("/parks", ParkIngestionServiceTest::handle);
+            httpServer.start();
+            return httpServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // data.go.kr 도시공원정보 응답 형식을 흉내 낸다.
+    private static void handle(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new ConcurrentHashMap<>();
+        for (String pair : exchange.getRequestURI().getQuery().split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            query.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+        }
+        int pageNo = Integer.parseInt(query.get("pageNo"));
+        int numOfRows = Integer.parseInt(query.get("numOfRows"));
+        requests.computeIfAbsent(pageNo, key -> new AtomicInteger()).incrementAndGet();
+
+        if (failingPages.contains(pageNo)) {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response>")
+                .append("<header><resultCode>00</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header><body><items>");
+        int from = (pageNo - 1) * numOfRows + 1;
+        for (int i = from; i < from + numOfRows && i <= totalCount; i++) {
+            xml.append("<item><manageNo>STUB-").append(i).append("</manageNo>")
+                    .append("<parkNm>공원").append(i).append(renamedItems.contains(i) ? "-renamed" : "").append("</parkNm>")
+                    .append("<lnmadr>서울특별시 강남구 역삼동 ").append(i).append("</lnmadr>")
+                    .append("<latitude>37.5").append(i).append("</latitude>")
+                    .append("<longitude>127.0").append(i).append("</longitude>")
+                    .append("<phoneNumber>02-000-000").append(i).append("</phoneNumber></item>");
+        }
+        xml.append("</items><numOfRows>").append(numOfRows).append("</numOfRows><pageNo>").append(pageNo)
+                .append("</pageNo><totalCount>").append(totalCount).append("</totalCount></body></response>");
+
+        byte[] body = xml.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
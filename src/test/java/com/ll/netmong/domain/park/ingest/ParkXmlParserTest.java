@@ -0,0 +1,63 @@
+package com.ll.netmong.domain.park.ingest;
+
+import com.ll.netmong.domain.park.entity.Park;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParkXmlParserTest {
+    private final ParkXmlParser parser = new ParkXmlParser();
+
+    @Test
+    @DisplayName("parse()는 item 마다 Park 빌더를 넘기고 totalCount 를 돌려준다.")
+    void parseItemsTest() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response>" +
+                "<header><resultCode>00</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header><body><items>" +
+                "<item><manageNo>11680-00001</manageNo><parkNm> 역삼공원 </parkNm><parkSe>근린공원</parkSe>" +
+                "<lnmadr>서울특별시 강남구 역삼동 635-1</lnmadr><latitude>37.4968</latitude><longitude>127.0328</longitude>" +
+                "<phoneNumber>02-3423-5114</phoneNumber></item>" +
+                "<item><manageNo>11680-00002</manageNo><parkNm><![CDATA[도곡&공원]]></parkNm><lnmadr/>" +
+                "<latitude></latitude><longitude></longitude><phoneNumber/></item>" +
+                "</items><numOfRows>100</numOfRows><pageNo>1</pageNo><totalCount>17944</totalCount></body></response>";
+        List<Park> parks = new ArrayList<>();
+
+        int totalCount = parser.parse(stream(xml), item -> parks.add(item.build()));
+
+        assertThat(totalCount).isEqualTo(17944);
+        assertThat(parks).hasSize(2);
+        assertThat(parks.get(0).getManageNo()).isEqualTo("11680-00001");
+        assertThat(parks.get(0).getParkNm()).isEqualTo("역삼공원");
+        assertThat(parks.get(0).getState()).isEqualTo("서울특별시");
+        assertThat(parks.get(0).getCity()).isEqualTo("강남구");
+        assertThat(parks.get(0).getLatitude()).isEqualTo(37.4968);
+        assertThat(parks.get(1).getParkNm()).isEqualTo("도곡&공원");
+        assertThat(parks.get(1).getLatitude()).isZero();
+        assertThat(parks.get(1).getState()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parse()는 데이터 없음 응답이면 0을, 오류 응답이면 ParkApiException 을 던진다.")
+    void parseErrorTest() throws Exception {
+        String noData = "<response><header><resultCode>03</resultCode><resultMsg>NODATA_ERROR</resultMsg></header></response>";
+        String authError = "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>" +
+                "<returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg><returnReasonCode>30</returnReasonCode>" +
+                "</cmmMsgHeader></OpenAPI_ServiceResponse>";
+
+        assertThat(parser.parse(stream(noData), item -> {
+        })).isZero();
+        assertThatThrownBy(() -> parser.parse(stream(authError), item -> {
+        })).isInstanceOf(ParkApiException.class)
+                .hasMessageContaining("SERVICE_KEY_IS_NOT_REGISTERED_ERROR");
+    }
+
+    private ByteArrayInputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,14 @@
 package com.ll.netmong.domain.park.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.netmong.common.CursorResponse;
 import com.ll.netmong.domain.likePark.repository.LikedParkRepository;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.domain.park.catalog.ParkCatalog;
+import com.ll.netmong.domain.park.catalog.ParkCatalogRow;
+import com.ll.netmong.domain.park.catalog.ParkListBody;
 import com.ll.netmong.domain.park.dto.response.ParkResponse;
 import com.ll.netmong.domain.park.entity.Park;
 import com.ll.netmong.domain.park.repository.ParkRepository;
@@ -17,14 +23,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -44,6 +56,12 @@ class ParkServiceImplTest {
     @Autowired
     private ParkService parkService;
 
+    @Autowired
+    private ParkCatalog parkCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private List<Park> sampleParks;
 
     @BeforeEach
@@ -136,7 +154,7 @@ class ParkServiceImplTest {
     @Test
     @DisplayName("getParks() 메서드는 데이터를 조회하고, 조회한 데이터를 ParkResponse 객체로 변환한다.")
     void testGetParks() {
-        when(parkRepository.findAll()).thenReturn(sampleParks);
+        loadCatalog(sampleParks);
 
         List<ParkResponse> result = parkService.getParks();
 
@@ -149,7 +167,7 @@ class ParkServiceImplTest {
     @Test   // Open API 호출과 데이터 저장 부분은 예외를 발생시키지 않는다고 가정한다.
     @DisplayName("getParks() 메서드는 비어있는 리스트를 반환하는 경우에도 예외를 발생시키지 않아야 한다.")
     void testGetParksWhenNoData() {
-        when(parkRepository.findAll()).thenReturn(Collections.emptyList());
+        loadCatalog(Collections.emptyList());
 
         assertDoesNotThrow(() -> parkService.getParks());
     }
@@ -159,7 +177,7 @@ class ParkServiceImplTest {
     void testGetStates() {
         List<String> states = sampleParks.stream().map(Park::getState).distinct().collect(Collectors.toList());
 
-        when(parkRepository.findStates()).thenReturn(states);
+        loadCatalog(sampleParks);
 
         List<String> result = parkService.getStates();
 
@@ -177,7 +195,7 @@ class ParkServiceImplTest {
                 .distinct()
                 .collect(Collectors.toList());
 
-        when(parkRepository.findCitiesByState(state)).thenReturn(cities);
+        loadCatalog(sampleParks);
 
         List<String> result = parkService.getCitiesByState(state);
 
@@ -196,7 +214,7 @@ class ParkServiceImplTest {
                 .filter(park -> park.getState().equals(state) && park.getCity().equals(city))
                 .collect(Collectors.toList());
 
-        when(parkRepository.findByLnmadrStartingWith(state + " " + city)).thenReturn(existingParks);
+        loadCatalog(sampleParks);
 
         List<ParkResponse> result = parkService.getParksByStateAndCity(state, city);
 
@@ -212,12 +230,96 @@ class ParkServiceImplTest {
         String state = "Test State";
         String city = "Test City";
 
-        when(parkRepository.findByLnmadrStartingWith(state + " " + city)).thenReturn(Collections.emptyList());
+        loadCatalog(Collections.emptyList());
 
         List<ParkResponse> result = parkService.getParksByStateAndCity(state, city);
 
         assertThat(result).isEmpty();
     }
 
-}
+    @Test
+    @DisplayName("reload()는 새 스냅샷으로 교체하고, 이전에 꺼낸 목록은 바뀌지 않는다.")
+    void testCatalogReloadSwapsSnapshot() {
+        loadCatalog(sampleParks);
+        List<ParkResponse> before = parkService.getParks();
 
+        loadCatalog(sampleParks.subList(0, 1));
+
+        assertThat(before.size()).isEqualTo(2);
+        assertThat(parkService.getParks().size()).isEqualTo(1);
+        assertThat(parkService.getParksByStateAndCity("Test State", "Test City").size()).isEqualTo(1);
+        assertThat(parkService.getCitiesByState("Unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getParksPage()는 id 커서 다음부터 size 만큼 반환하고, 마지막 페이지에는 다음 커서가 없다.")
+    void testGetParksPage() {
+        loadCatalog(sampleParks);
+
+        CursorResponse<ParkResponse> first = parkService.getParksPage(null, 1);
+        CursorResponse<ParkResponse> second = parkService.getParksPage(first.getNextCursor(), 1);
+
+        assertThat(first.getContent()).extracting(ParkResponse::getId).containsExactly(1L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo("1");
+        assertThat(second.getContent()).extracting(ParkResponse::getId).containsExactly(2L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(parkService.getParksPage("2", 10).getContent()).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> parkService.getParksPage("abc", 10));
+        assertThrows(IllegalArgumentException.class, () -> parkService.getParksPage(null, 0));
+    }
+
+    @Test
+    @DisplayName("getParkListBody()는 목록 응답을 gzip 으로 들고 있고, 스냅샷이 바뀌면 ETag 도 바뀐다.")
+    void testParkListBody() throws Exception {
+        loadCatalog(sampleParks);
+        ParkListBody body = parkService.getParkListBody();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        body.writeCompressed(compressed);
+        ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        body.writeUncompressed(uncompressed);
+
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())).readAllBytes();
+        JsonNode json = objectMapper.readTree(unzipped);
+
+        assertThat(unzipped).isEqualTo(uncompressed.toByteArray());
+        assertThat(json.get("resultCode").asText()).isEqualTo("S-1");
+        assertThat(json.get("data").size()).isEqualTo(2);
+        assertThat(body.getEtag()).startsWith("W/\"");
+
+        loadCatalog(sampleParks);
+        assertThat(parkService.getParkListBody().getEtag()).isEqualTo(body.getEtag());
+        loadCatalog(sampleParks.subList(0, 1));
+        assertThat(parkService.getParkListBody().getEtag()).isNotEqualTo(body.getEtag());
+    }
+
+    @Test
+    @DisplayName("streamParks()는 DB 커서에서 받은 공원을 getParks 와 같은 응답 모양으로 쓴다.")
+    void testStreamParks() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ParkResponse> consumer = invocation.getArgument(0);
+            sampleParks.forEach(park -> consumer.accept(park.toResponse()));
+            return null;
+        }).when(parkRepository).streamAll(any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parkService.streamParks(out);
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+
+        assertThat(json.get("resultCode").asText()).isEqualTo("S-1");
+        assertThat(json.get("data").size()).isEqualTo(2);
+        assertThat(json.get("data").get(1).get("parkNm").asText()).isEqualTo("testPark2");
+    }
+
+    // 카탈로그는 엔티티 대신 프로젝션 행으로 적재한다.
+    private void loadCatalog(List<Park> parks) {
+        List<ParkCatalogRow> rows = parks.stream()
+                .map(park -> new ParkCatalogRow(park.getId(), park.getParkNm(), park.getLnmadr(), park.getLatitude(),
+                        park.getLongitude(), park.getPhoneNumber(), park.getState(), park.getCity(), park.getLikesCount()))
+                .collect(Collectors.toList());
+        when(parkRepository.findAllCatalogRows()).thenReturn(rows);
+        parkCatalog.reload();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ll.netmong.domain.post.cache;
+
+import com.ll.netmong.domain.post.dto.response.PostResponse;
+import com.ll.netmong.domain.post.entity.Post;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostDetailCacheTest {
+
+    private final PostDetailCache postDetailCache = new PostDetailCache(100, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 게시물은 한 번만 적재하고 이후에는 캐시에서 읽는다.")
+    void readThrough() {
+        PostResponse first = postDetailCache.get(1L, this::load);
+        PostResponse second = postDetailCache.get(1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(postDetailCache.stats().hitCount()).isEqualTo(1);
+        assertThat(postDetailCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화한 게시물만 다시 적재한다.")
+    void invalidate() {
+        postDetailCache.get(1L, this::load);
+        postDetailCache.get(2L, this::load);
+
+        postDetailCache.invalidateAll(List.of(1L));
+        postDetailCache.get(1L, this::load);
+        postDetailCache.get(2L, this::load);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("없는 게시물의 예외는 캐시하지 않는다.")
+    void loadFailure() {
+        assertThatThrownBy(() -> postDetailCache.get(9L, postId -> {
+            throw new EntityNotFoundException("포스트를 찾을 수 없습니다.");
+        })).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(postDetailCache.size()).isZero();
+        assertThat(postDetailCache.get(9L, this::load).getPostId()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("회원별 좋아요 여부는 캐시된 응답을 바꾸지 않고 복사본에 채운다.")
+    void withIsLiked() {
+        PostResponse cached = postDetailCache.get(1L, this::load);
+
+        PostResponse liked = cached.withIsLiked(true);
+
+        assertThat(liked.getIsLiked()).isTrue();
+        assertThat(liked.getTitle()).isEqualTo(cached.getTitle());
+        assertThat(cached.getIsLiked()).isNull();
+    }
+
+    private PostResponse load(Long postId) {
+        loads.incrementAndGet();
+        return new PostResponse(Post.builder()
+                .id(postId)
+                .title("title" + postId)
+                .writer("writer")
+                .content("content")
+                .createDate(LocalDateTime.now())
+                .build());
+    }
+}
@@ -1,5 +1,9 @@
 package com.ll.netmong.domain.post.service;
 
+import com.ll.netmong.common.CursorResponse;
+import com.ll.netmong.domain.likedPost.entity.LikedPost;
+import com.ll.netmong.domain.likedPost.repository.LikedPostRepository;
+import com.ll.netmong.domain.likedPost.service.LikedPostCache;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
 import com.ll.netmong.domain.member.service.MemberService;
@@ -8,6 +12,7 @@ import com.ll.netmong.domain.post.dto.request.UpdatePostRequest;
 import com.ll.netmong.domain.post.dto.response.PostResponse;
 import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.post.search.PostSearchIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.Assertions;
@@ -16,6 +21,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -48,6 +55,12 @@ class PostServiceImplTest {
     @Autowired
     private PostRepository postRepository;
     @Autowired
+    private PostSearchIndex postSearchIndex;
+    @Autowired
+    private LikedPostRepository likedPostRepository;
+    @Autowired
+    private LikedPostCache likedPostCache;
+    @Autowired
     EntityManager em;
 
     @BeforeEach
@@ -140,6 +153,103 @@ class PostServiceImplTest {
         Assertions.assertThat(updatedPost.getContent()).isEqualTo("#테스트 2번 #실행실행");
     }
 
+    @Test
+    @DisplayName("cursor를 받아 다음 post 목록을 중복 없이 조회한다.")
+    public void testViewPostsByCursor() {
+        //given
+        for (int i = 0; i < 6; i++) {
+            postRepository.save(Post.builder()
+                    .title("테스트" + i)
+                    .member(member)
+                    .writer(username)
+                    .content("#테스트 커서")
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        CursorResponse<PostResponse> firstPage = postService.viewPostsByCursor(null, 5, userDetails);
+        CursorResponse<PostResponse> secondPage = postService.viewPostsByCursor(firstPage.getNextCursor(), 5, userDetails);
+
+        //then
+        Assertions.assertThat(firstPage.getContent()).hasSize(5);
+        Assertions.assertThat(firstPage.isHasNext()).isTrue();
+        Assertions.assertThat(secondPage.getContent()).isNotEmpty();
+        Assertions.assertThat(secondPage.getContent())
+                .extracting(PostResponse::getPostId)
+                .doesNotContainAnyElementsOf(firstPage.getContent().stream().map(PostResponse::getPostId).toList());
+    }
+
+    @Test
+    @DisplayName("카테고리 검색은 색인에서 부분 일치하는 post를 최신순으로 조회한다.")
+    public void testSearchPostsByCategory() {
+        //given
+        Post older = postRepository.save(Post.builder()
+                .title("산책 후기")
+                .member(member)
+                .writer(username)
+                .content("한강공원에서 색인검색 산책")
+                .build());
+        Post newer = postRepository.save(Post.builder()
+                .title("공원 추천")
+                .member(member)
+                .writer(username)
+                .content("올림픽공원 색인검색 추천")
+                .build());
+        em.flush();
+        postSearchIndex.index(older);
+        postSearchIndex.index(newer);
+
+        //when
+        Page<PostResponse> byContent = postService.searchPostsByCategory("내용", "색인검색", PageRequest.of(0, 5), userDetails);
+        Page<PostResponse> byTitle = postService.searchPostsByCategory("제목", "산책", PageRequest.of(0, 5), userDetails);
+        CursorResponse<PostResponse> byCursor = postService.searchPostsByCategoryWithCursor("내용", "색인검색", null, 1, userDetails);
+
+        //then
+        Assertions.assertThat(byContent.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(byContent.getContent())
+                .extracting(PostResponse::getPostId)
+                .containsExactly(newer.getId(), older.getId());
+        Assertions.assertThat(byTitle.getContent())
+                .extracting(PostResponse::getPostId)
+                .containsExactly(older.getId());
+        Assertions.assertThat(byCursor.getContent()).hasSize(1);
+        Assertions.assertThat(byCursor.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("post 목록 조회 시 좋아요 여부를 함께 조회한다.")
+    public void testViewPostsWithIsLiked() {
+        //given
+        Post notLiked = postRepository.save(Post.builder()
+                .title("테스트2")
+                .member(member)
+                .writer(username)
+                .content("#테스트 2번")
+                .build());
+        em.flush();
+        postService.viewPostsByMemberId(member.getId(), PageRequest.of(0, 5), userDetails);
+
+        likedPostRepository.save(LikedPost.builder().post(post).member(member).build());
+        likedPostCache.added(email, post.getId());
+        em.flush();
+        em.clear();
+
+        //when
+        Page<PostResponse> posts = postService.viewPostsByMemberId(member.getId(), PageRequest.of(0, 5), userDetails);
+
+        //then
+        Assertions.assertThat(posts.getContent())
+                .filteredOn(response -> response.getPostId().equals(post.getId()))
+                .extracting(PostResponse::getIsLiked)
+                .containsExactly(true);
+        Assertions.assertThat(posts.getContent())
+                .filteredOn(response -> response.getPostId().equals(notLiked.getId()))
+                .extracting(PostResponse::getIsLiked)
+                .containsExactly(false);
+    }
+
 //    @Test
 //    @DisplayName("pageable 받아 전체 post를 조회한다.")
 //    public void testViewPostsByPage() throws IOException {
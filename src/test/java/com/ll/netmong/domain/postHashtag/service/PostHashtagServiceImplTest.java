@@ -1,16 +1,34 @@
 package com.ll.netmong.domain.postHashtag.service;
 
+import com.ll.netmong.domain.hashtag.entity.Hashtag;
+import com.ll.netmong.domain.hashtag.posting.HashtagPostings;
+import com.ll.netmong.domain.hashtag.service.HashtagService;
+import com.ll.netmong.domain.hashtag.trending.TrendingHashtags;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.repository.MemberRepository;
 import com.ll.netmong.domain.member.service.MemberService;
+import com.ll.netmong.domain.post.dto.request.PostRequest;
+import com.ll.netmong.domain.post.dto.request.UpdatePostRequest;
 import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.post.repository.PostRepository;
 import com.ll.netmong.domain.post.service.PostService;
+import com.ll.netmong.domain.postHashtag.entity.PostHashtag;
+import com.ll.netmong.domain.postHashtag.repository.PostHashtagRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 @SpringBootTest
 @Transactional
 class PostHashtagServiceImplTest {
@@ -29,6 +47,10 @@ class PostHashtagServiceImplTest {
     private MemberRepository memberRepository;
     @Autowired
     private PostRepository postRepository;
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+    @Autowired
+    private HashtagService hashtagService;
 
 //    @BeforeEach
 //    void setUp() {
@@ -95,4 +117,91 @@ class PostHashtagServiceImplTest {
 //        Assertions.assertThat(originNames.get(0)).isEqualTo("오늘");
 //        Assertions.assertThat(originNames.get(1)).isEqualTo("멍멍");
 //    }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("수정된 내용과 기존 해시태그를 비교해 추가/삭제된 해시태그만 반영한다.")
+    void testUpdateHashtagWithDiff() {
+        //given
+        Post savedPost = postRepository.save(Post.builder()
+                .title("테스트")
+                .writer("작성자")
+                .content("#수정유지 #수정삭제")
+                .build());
+        PostRequest postRequest = new PostRequest();
+        postRequest.setContent(savedPost.getContent());
+        hashtagService.saveHashtag(postRequest, savedPost);
+
+        UpdatePostRequest updatePostRequest = new UpdatePostRequest();
+        updatePostRequest.setContent("#수정유지 #수정추가 #수정추가");
+
+        //when
+        postHashtagService.updateHashtag(savedPost.getId(), updatePostRequest);
+
+        //then
+        Assertions.assertThat(postHashtagRepository.findByPostId(savedPost.getId()))
+                .extracting(PostHashtag::getName)
+                .containsExactlyInAnyOrder("수정유지", "수정추가");
+    }
+
+    @Test
+    @DisplayName("postId를 받아 해당 게시물의 해시태그를 한 번에 삭제한다.")
+    void testDeleteHashtagInBulk() {
+        //given
+        Post savedPost = postRepository.save(Post.builder()
+                .title("테스트")
+                .writer("작성자")
+                .content("#삭제하나 #삭제둘")
+                .build());
+        PostRequest postRequest = new PostRequest();
+        postRequest.setContent(savedPost.getContent());
+        hashtagService.saveHashtag(postRequest, savedPost);
+
+        //when
+        postHashtagService.deleteHashtag(savedPost.getId());
+
+        //then
+        Assertions.assertThat(postHashtagRepository.findByPostId(savedPost.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자만 바뀐 해시태그는 그대로 두고, 검색 목록과 인기 해시태그에는 저장된 이름으로 반영한다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testUpdateHashtagIgnoresCase() {
+        //given
+        PostHashtagRepository repository = mock(PostHashtagRepository.class);
+        PostRepository posts = mock(PostRepository.class);
+        HashtagService hashtags = mock(HashtagService.class);
+        HashtagPostings postings = mock(HashtagPostings.class);
+        TrendingHashtags trending = mock(TrendingHashtags.class);
+        PostHashtagServiceImpl service = new PostHashtagServiceImpl(repository, posts, hashtags, postings, trending);
+
+        Post savedPost = Post.builder().id(7L).build();
+        Hashtag java = hashtag(1L, "Java");
+        Hashtag walk = hashtag(2L, "산책");
+        Hashtag park = hashtag(3L, "공원");
+        List<PostHashtag> savedPostHashtags = List.of(new PostHashtag(savedPost, java), new PostHashtag(savedPost, walk));
+        when(posts.existsById(7L)).thenReturn(true);
+        when(repository.findByPostId(7L)).thenReturn(savedPostHashtags);
+        when(hashtags.findOrCreateHashtags(List.of("공원"))).thenReturn(List.of(park));
+
+        UpdatePostRequest updatePostRequest = new UpdatePostRequest();
+        updatePostRequest.setContent("#java #공원");
+
+        //when
+        service.updateHashtag(7L, updatePostRequest);
+
+        //then
+        verify(repository).deleteByPostIdAndHashtagIdIn(7L, List.of(2L));
+        verify(repository).insertAll(7L, List.of(park));
+        verify(postings).touch(7L, List.of("Java", "공원"));
+        verify(postings).remove(7L, List.of("산책"));
+        verify(trending).record(List.of("공원"));
+    }
+
+    private Hashtag hashtag(Long id, String name) {
+        Hashtag hashtag = mock(Hashtag.class);
+        when(hashtag.getId()).thenReturn(id);
+        when(hashtag.getName()).thenReturn(name);
+        return hashtag;
+    }
+}
@@ -5,6 +5,7 @@ import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.entity.ProviderTypeCode;
 import com.ll.netmong.domain.post.entity.Post;
 import com.ll.netmong.domain.postComment.entity.PostComment;
+import com.ll.netmong.domain.postComment.service.PostCommentSummaryBuffer;
 import com.ll.netmong.domain.reports.dto.request.ReportRequest;
 import com.ll.netmong.domain.reports.dto.response.ReportCommentResponse;
 import com.ll.netmong.domain.reports.dto.response.ReportPostResponse;
@@ -41,7 +42,8 @@ public class ReportServiceImplTest {
         reportCommentRepository = mock(ReportCommentRepository.class);
 
         // ReportService 객체 생성
-        reportService = new ReportServiceImpl(reportPostRepository, reportCommentRepository);
+        reportService = new ReportServiceImpl(reportPostRepository, reportCommentRepository,
+                mock(PostCommentSummaryBuffer.class));
 
         // 테스트에 사용할 변수들 초기화
         reporter = Member.builder()
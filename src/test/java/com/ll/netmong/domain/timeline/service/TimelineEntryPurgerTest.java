@@ -0,0 +1,47 @@
+package com.ll.netmong.domain.timeline.service;
+
+import com.ll.netmong.domain.timeline.repository.TimelineEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TimelineEntryPurgerTest {
+    private static final long MEMBER_ID = 990_001L;
+
+    @Autowired
+    private TimelineEntryPurger timelineEntryPurger;
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM timeline_entry WHERE member_id = ?", MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 타임라인 항목만 삭제한다.")
+    void purge() {
+        timelineEntryRepository.insertAll(List.of(MEMBER_ID), 1L, 10L);
+        timelineEntryRepository.insertAll(List.of(MEMBER_ID), 2L, 10L);
+        timelineEntryRepository.insertAll(List.of(MEMBER_ID), 3L, 10L);
+        jdbcTemplate.update("UPDATE timeline_entry SET create_date = ? WHERE member_id = ? AND post_id IN (1, 2)",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(31)), MEMBER_ID);
+
+        timelineEntryPurger.purge();
+
+        assertThat(jdbcTemplate.queryForList("SELECT post_id FROM timeline_entry WHERE member_id = ?", Long.class, MEMBER_ID))
+                .containsExactly(3L);
+    }
+}
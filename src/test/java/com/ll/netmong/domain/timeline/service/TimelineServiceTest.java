@@ -0,0 +1,156 @@
+package com.ll.netmong.domain.timeline.service;
+
+import com.ll.netmong.common.CursorResponse;
+import com.ll.netmong.domain.follow.graph.FollowGraph;
+import com.ll.netmong.domain.follow.repository.FollowRepository;
+import com.ll.netmong.domain.likedPost.service.LikedPostCache;
+import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.repository.MemberRepository;
+import com.ll.netmong.domain.post.dto.response.PostResponse;
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import com.ll.netmong.domain.timeline.repository.TimelineEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimelineServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private FollowGraph followGraph;
+    @Mock
+    private TimelineEntryRepository timelineEntryRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private LikedPostCache likedPostCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TimelineRings timelineRings;
+    private TimelineService timelineService;
+
+    private final Member author = Member.builder().id(1L).username("author").email("author@test.com").build();
+    private final Member reader = Member.builder().id(2L).username("reader").email("reader@test.com").build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        timelineRings = new TimelineRings(timelineEntryRepository, transactionManager, 10, 100);
+        timelineService = new TimelineService(followRepository, followGraph, timelineEntryRepository, postRepository,
+                memberRepository, timelineRings, likedPostCache);
+        ReflectionTestUtils.setField(timelineService, "celebrityThreshold", 2L);
+    }
+
+    @Test
+    @DisplayName("팔로워가 기준 이하인 작성자의 게시물은 팔로워 타임라인에 저장된다.")
+    void fanOutToFollowers() {
+        Post post = post(10L);
+        when(followRepository.countByFolloweeId(1L)).thenReturn(2L);
+        when(followRepository.findFollowerIdsByFolloweeId(1L)).thenReturn(List.of(2L, 3L));
+
+        timelineService.fanOut(post);
+
+        verify(timelineEntryRepository).insertAll(List.of(2L, 3L), 10L, 1L);
+    }
+
+    @Test
+    @DisplayName("언팔로우하면 그 계정의 게시물을 타임라인 테이블과 메모리 ring 에서 뺀다.")
+    void unfollowedRemovesAuthorPosts() {
+        when(timelineEntryRepository.findPostIdsByMemberIdBefore(eq(2L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(12L, 11L));
+        assertEquals(List.of(12L, 11L), timelineRings.read(2L, Long.MAX_VALUE, 5));
+
+        timelineService.unfollowed(2L, 1L);
+        when(timelineEntryRepository.findPostIdsByMemberIdBefore(eq(2L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(11L));
+
+        verify(timelineEntryRepository).deleteByMemberIdAndAuthorId(2L, 1L);
+        assertEquals(List.of(11L), timelineRings.read(2L, Long.MAX_VALUE, 5));
+    }
+
+    @Test
+    @DisplayName("팔로워가 기준을 넘는 작성자의 게시물은 fan-out 하지 않는다.")
+    void skipFanOutForCelebrity() {
+        when(followRepository.countByFolloweeId(1L)).thenReturn(3L);
+
+        timelineService.fanOut(post(10L));
+
+        verify(followRepository, never()).findFollowerIdsByFolloweeId(anyLong());
+        verify(timelineEntryRepository, never()).insertAll(anyCollection(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("타임라인은 전달받은 게시물과 유명 계정의 게시물을 최신순으로 합쳐 반환한다.")
+    void getTimelineMergesPushedAndCelebrityPosts() {
+        UserDetails userDetails = User.withUsername("reader@test.com").password("").authorities("USER").build();
+        when(memberRepository.findByEmail("reader@test.com")).thenReturn(Optional.of(reader));
+        when(timelineEntryRepository.findPostIdsByMemberIdBefore(eq(2L), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(9L, 5L, 3L));
+        when(followRepository.findCelebrityFolloweeIds(2L, 2L)).thenReturn(List.of(7L));
+        when(postRepository.findIdsByMemberIdInBefore(eq(List.of(7L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(8L, 4L));
+        when(postRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::post).toList();
+        });
+        when(likedPostCache.findLikedPostIds(eq("reader@test.com"), any())).thenReturn(Set.of(8L));
+
+        CursorResponse<PostResponse> first = timelineService.getTimeline(userDetails, null, 3);
+
+        List<PostResponse> content = first.getContent();
+        assertEquals(List.of(9L, 8L, 5L), content.stream().map(PostResponse::getPostId).toList());
+        assertTrue(content.get(1).getIsLiked());
+        assertFalse(content.get(0).getIsLiked());
+        assertTrue(first.isHasNext());
+        assertEquals("5", first.getNextCursor());
+
+        when(postRepository.findIdsByMemberIdInBefore(eq(List.of(7L)), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(4L));
+        CursorResponse<PostResponse> second = timelineService.getTimeline(userDetails, "5", 3);
+
+        assertEquals(List.of(4L, 3L), second.getContent().stream().map(PostResponse::getPostId).toList());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    private Post post(Long id) {
+        return Post.builder()
+                .id(id)
+                .title("title" + id)
+                .content("content")
+                .writer(author.getUsername())
+                .member(author)
+                .createDate(LocalDateTime.now())
+                .build();
+    }
+}
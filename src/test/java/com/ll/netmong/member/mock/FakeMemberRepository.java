@@ -51,13 +51,35 @@ public class FakeMemberRepository implements MemberRepository {
     }
 
     @Override
-    public Long countPostsByMemberUsername(String username) {
-        return null;
+    public Optional<Member> findByEmail(String email) {
+
+        return data.stream().filter(i -> i.getEmail().equals(email)).findAny();
     }
 
     @Override
-    public Optional<Member> findByEmail(String email) {
+    public void addFollowingCount(Long memberId, long delta) {
+        // 저장된 엔티티를 그대로 공유하므로 서비스에서 엔티티 값을 바꾸면 함께 반영된다.
+    }
 
-        return data.stream().filter(i -> i.getEmail().equals(email)).findAny();
+    @Override
+    public void addFollowerCount(Long memberId, long delta) {
+    }
+
+    @Override
+    public void addPostsCount(Long memberId, long delta) {
+    }
+
+    @Override
+    public int updatePasswordIfUnchanged(Long memberId, String currentPassword, String newPassword) {
+        Optional<Member> member = data.stream()
+                .filter(i -> Objects.equals(i.getId(), memberId) && Objects.equals(i.getPassword(), currentPassword))
+                .findAny();
+        member.ifPresent(i -> i.changePassword(newPassword));
+        return member.isPresent() ? 1 : 0;
+    }
+
+    @Override
+    public int reconcileCounts() {
+        return 0;
     }
 }
@@ -0,0 +1,108 @@
+package com.ll.netmong.member.repository;
+
+import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.repository.MemberJpaRepository;
+import com.ll.netmong.domain.member.repository.MemberRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class MemberRepositoryImplTest {
+
+    @Mock
+    private MemberJpaRepository memberJpaRepository;
+
+    private MemberRepositoryImpl memberRepository;
+
+    private final Member member = Member.builder().id(1L).email("member@test.com").username("before").build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        memberRepository = new MemberRepositoryImpl(memberJpaRepository, 100);
+    }
+
+    @Test
+    @DisplayName("한 번 찾은 회원은 email, username 모두 id 로 다시 조회한다.")
+    void cachedIdentity() {
+        when(memberJpaRepository.findByEmail("member@test.com")).thenReturn(Optional.of(member));
+        when(memberJpaRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        memberRepository.findByEmail("member@test.com");
+        Optional<Member> byEmail = memberRepository.findByEmail("member@test.com");
+        Optional<Member> byUsername = memberRepository.findByUsername("before");
+
+        assertThat(byEmail).contains(member);
+        assertThat(byUsername).contains(member);
+        verify(memberJpaRepository, times(1)).findByEmail("member@test.com");
+        verify(memberJpaRepository, times(0)).findByUsername("before");
+        verify(memberJpaRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀐 회원은 이전 닉네임으로 찾을 수 없다.")
+    void renamedMember() {
+        when(memberJpaRepository.findByUsername("before")).thenReturn(Optional.of(member));
+        memberRepository.findByUsername("before");
+
+        member.changeUsername("after");
+        when(memberJpaRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberJpaRepository.findByUsername("before")).thenReturn(Optional.empty());
+
+        assertThat(memberRepository.findByUsername("before")).isEmpty();
+        assertThat(memberRepository.findByUsername("before")).isEmpty();
+        verify(memberJpaRepository, times(3)).findByUsername("before");
+    }
+
+    @Test
+    @DisplayName("같은 email 의 동시 캐시 미스는 유니크 키 조회 한 번과 기다린 요청마다의 PK 조회로 처리한다.")
+    void collapseConcurrentMisses() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberJpaRepository.findByEmail("member@test.com")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(member);
+        });
+        when(memberJpaRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<Member>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> memberRepository.findByEmail("member@test.com")));
+            started.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> memberRepository.findByEmail("member@test.com")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Optional<Member>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains(member);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // 전체 쿼리 수: 유니크 키 조회 1 + 기다린 3 요청의 PK 조회 3
+        verify(memberJpaRepository, times(1)).findByEmail("member@test.com");
+        verify(memberJpaRepository, times(3)).findById(1L);
+        verifyNoMoreInteractions(memberJpaRepository);
+    }
+}
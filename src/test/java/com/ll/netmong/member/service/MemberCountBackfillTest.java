@@ -0,0 +1,82 @@
+package com.ll.netmong.member.service;
+
+import com.ll.netmong.domain.follow.entity.Follow;
+import com.ll.netmong.domain.follow.repository.FollowRepository;
+import com.ll.netmong.domain.member.dto.JoinRequest;
+import com.ll.netmong.domain.member.entity.Member;
+import com.ll.netmong.domain.member.service.MemberCountBackfill;
+import com.ll.netmong.domain.member.service.MemberService;
+import com.ll.netmong.domain.post.entity.Post;
+import com.ll.netmong.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class MemberCountBackfillTest {
+
+    @Autowired
+    private MemberCountBackfill memberCountBackfill;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("카운터 컬럼이 생기기 전의 팔로우와 게시물을 한 번만 세어 채운다.")
+    void backfillExistingRows() {
+        //given - 카운터를 거치지 않고 저장된 기존 데이터
+        Member first = join(1);
+        Member second = join(2);
+        Member third = join(3);
+        followRepository.saveAll(List.of(
+                Follow.builder().follower(first).followee(second).build(),
+                Follow.builder().follower(first).followee(third).build(),
+                Follow.builder().follower(third).followee(second).build()));
+        postRepository.saveAll(List.of(
+                Post.builder().title("제목1").writer("작성자").content("내용").member(first).build(),
+                Post.builder().title("제목2").writer("작성자").content("내용").member(first).build(),
+                Post.builder().title("제목3").writer("작성자").content("내용").member(second).status("N").build()));
+        followRepository.flush();
+        jdbcTemplate.update("DELETE FROM backfill_marker WHERE name = 'member-counts'");
+
+        //when
+        memberCountBackfill.afterSingletonsInstantiated();
+
+        //then
+        assertThat(counts(first)).containsExactly(2L, 0L, 2L);
+        assertThat(counts(second)).containsExactly(0L, 2L, 0L);
+        assertThat(counts(third)).containsExactly(1L, 1L, 0L);
+
+        // 이미 채운 뒤에는 다시 기동해도 다시 세지 않는다.
+        jdbcTemplate.update("UPDATE member SET following_count = following_count + 1 WHERE id = ?", first.getId());
+        memberCountBackfill.afterSingletonsInstantiated();
+        assertThat(counts(first)).containsExactly(3L, 0L, 2L);
+    }
+
+    private Member join(int index) {
+        JoinRequest joinRequest = new JoinRequest();
+        joinRequest.setUsername("backfill" + index);
+        joinRequest.setEmail("backfill" + index + "@mam.com");
+        joinRequest.setPassword("password1");
+        joinRequest.setRealname("real" + index);
+        return memberService.createMember(joinRequest);
+    }
+
+    private List<Long> counts(Member member) {
+        return jdbcTemplate.queryForObject("SELECT following_count, follower_count, posts_count FROM member WHERE id = ?",
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3)), member.getId());
+    }
+}
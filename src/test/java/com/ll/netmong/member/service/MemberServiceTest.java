@@ -1,40 +1,55 @@
 package com.ll.netmong.member.service;
 
 import com.ll.netmong.base.jwt.TokenService;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenRepository;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenRevocations;
+import com.ll.netmong.base.jwt.refresh.RefreshTokenService;
+import com.ll.netmong.base.security.password.PasswordHashingExecutor;
+import com.ll.netmong.domain.member.dto.LoginDto;
+import com.ll.netmong.domain.member.exception.NotMatchPasswordException;
 import com.ll.netmong.domain.member.dto.JoinRequest;
 import com.ll.netmong.domain.member.dto.UsernameRequest;
 import com.ll.netmong.domain.member.entity.AuthLevel;
 import com.ll.netmong.domain.member.entity.Member;
 import com.ll.netmong.domain.member.entity.ProviderTypeCode;
 import com.ll.netmong.domain.member.service.MemberService;
-import com.ll.netmong.member.mock.FakeAuthenticationManagerBuilder;
 import com.ll.netmong.member.mock.FakeMemberRepository;
 import com.ll.netmong.member.mock.FakePasswordEncoder;
 import com.ll.netmong.member.mock.FakeTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 class MemberServiceTest {
 
     private MemberService memberService;
     private TokenService tokenService;
+    private FakeMemberRepository fakeMemberRepository;
 
     @BeforeEach
     void init() {
-        FakeMemberRepository fakeMemberRepository = new FakeMemberRepository();
+        this.fakeMemberRepository = new FakeMemberRepository();
         FakePasswordEncoder fakePasswordEncoder = new FakePasswordEncoder();
-        FakeTokenProvider fakeTokenProvider = new FakeTokenProvider("1", 84900L, "1", 90000L);
-        FakeAuthenticationManagerBuilder fakeAuthenticationManagerBuilder = new FakeAuthenticationManagerBuilder();
+        FakeTokenProvider fakeTokenProvider = new FakeTokenProvider("1", 84900L, 90000L);
+
+        RefreshTokenService refreshTokenService = new RefreshTokenService(mock(RefreshTokenRepository.class),
+                mock(RefreshTokenRevocations.class), fakeTokenProvider);
 
-        this.tokenService = new TokenService(fakeTokenProvider, fakeAuthenticationManagerBuilder);
+        this.tokenService = new TokenService(refreshTokenService);
 
         this.memberService = MemberService.builder()
                 .memberRepository(fakeMemberRepository)
                 .passwordEncoder(fakePasswordEncoder)
                 .tokenService(tokenService)
+                .passwordHashingExecutor(new PasswordHashingExecutor(1, 8))
                 .build();
 
         Member member1 = Member.builder()
@@ -93,4 +108,34 @@ class MemberServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("login 은 비밀번호가 틀리면 NotMatchPasswordException 으로 실패한 future 를 반환한다.")
+    public void MST4() throws Exception {
+        //given
+        LoginDto loginDto = new LoginDto();
+        loginDto.setEmail("aaa@aaa.com");
+        loginDto.setPassword("wrongpassword");
+
+        //when
+        //then
+        assertThatThrownBy(() -> memberService.login(loginDto).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NotMatchPasswordException.class);
+    }
+
+    @Test
+    @DisplayName("changePassword 는 기존 비밀번호가 맞을 때만 새 비밀번호의 해시로 바꾼다.")
+    public void changePasswordTest() throws Exception {
+        //given
+        UserDetails userDetails = User.withUsername("aaa@aaa.com").password("").authorities("MEMBER").build();
+
+        //when
+        String wrong = memberService.changePassword(userDetails, "wrongpassword", "password2");
+        String changed = memberService.changePassword(userDetails, "password1", "password2");
+
+        //then
+        assertThat(wrong).isEqualTo("member1");
+        assertThat(changed).isEqualTo("member1");
+        assertThat(fakeMemberRepository.findByEmail("aaa@aaa.com").orElseThrow().getPassword()).isEqualTo("encodedpassword2");
+    }
+}